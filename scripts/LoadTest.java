@@ -0,0 +1,124 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Closed-loop HTTP load generator: each client sends a GET, waits for the response and
+ * sends the next one, cycling through the paths. Reports throughput and latency percentiles
+ * of the measured period (the warm-up is discarded).
+ *
+ * Usage: java scripts/LoadTest.java <baseUrl> <clients> <warmupSeconds> <seconds> <path>...
+ */
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        if (args.length < 5) {
+            System.err.println("Usage: java scripts/LoadTest.java <baseUrl> <clients> <warmupSeconds> <seconds> <path>...");
+            System.exit(2);
+        }
+        String baseUrl = args[0];
+        int clients = Integer.parseInt(args[1]);
+        long warmupNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(args[2]));
+        long measureNanos = TimeUnit.SECONDS.toNanos(Long.parseLong(args[3]));
+        List<URI> uris = Arrays.stream(args, 4, args.length).map(path -> URI.create(baseUrl + path)).toList();
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+        long start = System.nanoTime();
+        long measureFrom = start + warmupNanos;
+        long end = measureFrom + measureNanos;
+
+        ExecutorService pool = Executors.newFixedThreadPool(clients);
+        List<Future<Result>> futures = new ArrayList<>();
+        for (int i = 0; i < clients; i++) {
+            int offset = i;
+            futures.add(pool.submit(() -> run(client, uris, offset, measureFrom, end)));
+        }
+
+        Result total = new Result();
+        for (Future<Result> future : futures) {
+            total.add(future.get());
+        }
+        pool.shutdown();
+
+        long[] latencies = Arrays.copyOf(total.latencies, total.count);
+        Arrays.sort(latencies);
+        double seconds = measureNanos / 1e9;
+        System.out.printf("clients=%d requests=%d errors=%d throughput=%.1f req/s p50=%.1f ms p90=%.1f ms p99=%.1f ms max=%.1f ms%n",
+            clients, latencies.length, total.errors, latencies.length / seconds,
+            millis(percentile(latencies, 0.50)), millis(percentile(latencies, 0.90)),
+            millis(percentile(latencies, 0.99)), millis(latencies.length > 0 ? latencies[latencies.length - 1] : 0));
+    }
+
+    private static Result run(HttpClient client, List<URI> uris, int offset, long measureFrom, long end) {
+        Result result = new Result();
+        for (int i = offset; ; i++) {
+            long sent = System.nanoTime();
+            if (sent >= end) {
+                return result;
+            }
+            HttpRequest request = HttpRequest.newBuilder(uris.get(i % uris.size()))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (Exception e) {
+                ok = false;
+            }
+            long received = System.nanoTime();
+            if (sent < measureFrom) {
+                continue;
+            }
+            if (ok) {
+                result.record(received - sent);
+            } else {
+                result.errors++;
+            }
+        }
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(p * sorted.length) - 1)];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Result {
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        private void record(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        private void add(Result other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i]);
+            }
+            errors += other.errors;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+#!/bin/bash
+
+# =============================================================================
+# Load test: platform threads vs virtual threads (app.threads.virtual)
+# =============================================================================
+# Builds the jar, then for each mode starts the application, runs the same
+# closed-loop load (scripts/LoadTest.java) against public read endpoints and
+# prints throughput and latency percentiles. Needs a Java 21+ runtime (virtual
+# threads are ignored on older ones) and the database of the chosen profile.
+#
+# Usage: ./scripts/load-test.sh [clients] [seconds]
+#   PROFILE=dev (default) selects the Spring profile
+#   APP_ARGS="--spring.datasource.password=..." adds application arguments
+# =============================================================================
+
+set -e  # Exit on error
+
+CLIENTS=${1:-200}
+SECONDS_PER_RUN=${2:-60}
+WARMUP_SECONDS=${WARMUP_SECONDS:-15}
+PROFILE=${PROFILE:-dev}
+PORT=${PORT:-3000}
+BASE_URL="http://localhost:${PORT}/api"
+PATHS=("/reports?page=0&size=20" "/reports?page=0&size=20&view=summary" "/reports/latest?limit=5" "/tags" "/categories" "/reports/counts")
+
+cd "$(dirname "$0")/.."
+
+JAVA_MAJOR=$(java -XshowSettings:properties -version 2>&1 | awk -F' = ' '/java.specification.version/ {print $2}')
+if [ "${JAVA_MAJOR%%.*}" -lt 21 ]; then
+    echo "Warning: Java ${JAVA_MAJOR} does not have virtual threads, both runs will use platform threads"
+fi
+
+./gradlew bootJar --no-daemon -q
+JAR=$(ls build/libs/*.jar | grep -v -- '-plain.jar' | head -n 1)
+
+for VIRTUAL in false true; do
+    echo "=== app.threads.virtual=${VIRTUAL} (${CLIENTS} clients, ${SECONDS_PER_RUN}s) ==="
+    java -jar "$JAR" --spring.profiles.active="$PROFILE" --server.port="$PORT" \
+        --app.threads.virtual="$VIRTUAL" --logging.level.root=WARN $APP_ARGS > "build/load-test-${VIRTUAL}.log" 2>&1 &
+    APP_PID=$!
+    trap 'kill $APP_PID 2>/dev/null' EXIT
+
+    for i in $(seq 1 120); do
+        if curl -sf -o /dev/null "${BASE_URL}/tags"; then
+            break
+        fi
+        if ! kill -0 $APP_PID 2>/dev/null; then
+            echo "Application failed to start, see build/load-test-${VIRTUAL}.log"
+            exit 1
+        fi
+        sleep 1
+    done
+
+    java scripts/LoadTest.java "$BASE_URL" "$CLIENTS" "$WARMUP_SECONDS" "$SECONDS_PER_RUN" "${PATHS[@]}"
+
+    kill $APP_PID
+    wait $APP_PID 2>/dev/null || true
+done
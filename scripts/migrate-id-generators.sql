@@ -0,0 +1,47 @@
+-- =============================================================================
+-- Migration: AUTO_INCREMENT ids -> id_generators table
+-- =============================================================================
+-- Entity ids are now allocated by Hibernate from the id_generators table (one
+-- row per entity table, blocks of 50) so inserts can be batched.
+-- Each row holds the highest id already allocated, so it must be at least the
+-- table's current MAX(id).
+--
+-- The application does this itself on startup: Flyway migration
+-- V4__id_generators creates and seeds the table, and IdGeneratorSeeder moves
+-- lagging rows up on every start. Run this script by hand when the schema is
+-- managed outside the application (spring.flyway.enabled=false), or before a
+-- rolling deploy: stop every instance still on AUTO_INCREMENT ids first, as
+-- their inserts would not advance id_generators.
+--
+-- The existing AUTO_INCREMENT attributes can stay; they are unused once
+-- Hibernate supplies the ids.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS id_generators (
+    entity   VARCHAR(255) NOT NULL PRIMARY KEY,
+    next_val BIGINT
+);
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) FROM users
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'categories', COALESCE(MAX(id), 0) FROM categories
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'tags', COALESCE(MAX(id), 0) FROM tags
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'reports', COALESCE(MAX(id), 0) FROM reports
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'report_images', COALESCE(MAX(id), 0) FROM report_images
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'testimonials', COALESCE(MAX(id), 0) FROM testimonials
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,70 @@
+package com.slm.backend.benchmark;
+
+import com.slm.backend.entity.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Entity graphs shaped like production reports, shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String PARAGRAPH = "<p>Quarterly maintenance of the pumping station covered the intake "
+        + "screens, the backup generator and the telemetry link. Flow readings stayed within the expected range, "
+        + "although the north sensor drifted by 2% and was recalibrated on site.</p>\n";
+
+    private BenchmarkData() {
+    }
+
+    static Report report(long id, int tagCount, int imageCount) {
+        LocalDateTime created = LocalDateTime.of(2024, 3, 1, 9, 30).plusHours(id);
+
+        User author = User.builder().name("Author " + (id % 7)).email("author" + (id % 7) + "@example.com")
+            .password("secret").build();
+        author.setId(id % 7 + 1);
+
+        Category category = Category.builder().name("Category " + (id % 5)).slug("category-" + (id % 5))
+            .description("Reports about category " + (id % 5)).color("#3366ff").build();
+        category.setId(id % 5 + 1);
+
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            Tag tag = Tag.builder().name("Tag " + i).slug("tag-" + i).build();
+            tag.setId((long) i + 1);
+            tags.add(tag);
+        }
+
+        Report report = Report.builder()
+            .title("Pumping station maintenance report " + id)
+            .slug("pumping-station-maintenance-report-" + id)
+            .excerpt("Summary of the quarterly maintenance visit, readings and follow-up actions.")
+            .content(PARAGRAPH.repeat(30))
+            .status(Report.Status.PUBLISHED)
+            .publishedAt(created.plusDays(1))
+            .author(author)
+            .category(category)
+            .tags(tags)
+            .viewCount(1200 + id)
+            .build();
+        report.setId(id);
+        report.setCreatedAt(created);
+        report.setUpdatedAt(created.plusDays(2));
+
+        List<ReportImage> images = new ArrayList<>();
+        for (int i = 0; i < imageCount; i++) {
+            String base = "http://localhost:3000/api/uploads/reports/" + id + "/image-" + i;
+            ReportImage image = ReportImage.builder().report(report).url(base + ".jpg")
+                .thumbnailUrl(base + "-thumb.jpg").alt("Photo " + i).caption("Site photo " + i).displayOrder(i)
+                .build();
+            image.setId(id * 100 + i);
+            image.setCreatedAt(created);
+            images.add(image);
+        }
+        report.setImages(images);
+        return report;
+    }
+}
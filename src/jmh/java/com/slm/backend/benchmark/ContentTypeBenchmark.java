@@ -0,0 +1,30 @@
+package com.slm.backend.benchmark;
+
+import com.slm.backend.service.FileService;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Content type lookup done for every served upload (on metadata cache misses).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ContentTypeBenchmark {
+
+    private final String[] filenames = {
+        "3f2c9a1e-6b1d-4c8e-9a57-1f0e2d3c4b5a.jpg",
+        "3f2c9a1e-6b1d-4c8e-9a57-1f0e2d3c4b5a-thumb.JPEG",
+        "diagram.svg",
+        "archive.tar.gz"
+    };
+
+    @Benchmark
+    public void determineContentType(Blackhole blackhole) {
+        for (String filename : filenames) {
+            blackhole.consume(FileService.determineContentType(filename));
+        }
+    }
+}
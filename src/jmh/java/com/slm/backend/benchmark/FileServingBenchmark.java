@@ -0,0 +1,165 @@
+package com.slm.backend.benchmark;
+
+import com.slm.backend.config.HttpCacheProperties;
+import com.slm.backend.config.UploadProperties;
+import com.slm.backend.service.FileService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.ResourceHttpMessageConverter;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Throughput of serving an uploaded image: the previous UrlResource based handler
+ * (including its console logging) against FileService.
+ * Both write into a response that discards the body (MockHttpServletResponse copies byte
+ * by byte, which would dominate the measurement), so FileService uses its transferTo path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class FileServingBenchmark {
+
+    private static final long REPORT_ID = 1L;
+    private static final String FILENAME = "image.jpg";
+
+    @Param({"16384", "1048576"})
+    public int fileSize;
+
+    private Path baseDir;
+    private UploadProperties uploadProperties;
+    private FileService fileService;
+    private final ResourceHttpMessageConverter converter = new ResourceHttpMessageConverter();
+    private PrintStream originalOut;
+
+    @Setup
+    public void setup() throws IOException {
+        baseDir = Files.createTempDirectory("file-serving-benchmark");
+        uploadProperties = new UploadProperties();
+        uploadProperties.setBaseDir(baseDir.toString());
+        uploadProperties.setPath("reports/");
+
+        Path reportDir = uploadProperties.getReportUploadPath(REPORT_ID);
+        Files.createDirectories(reportDir);
+        byte[] content = new byte[fileSize];
+        new Random(42).nextBytes(content);
+        Files.write(reportDir.resolve(FILENAME), content);
+
+        fileService = new FileService(uploadProperties, new HttpCacheProperties(), new SimpleMeterRegistry());
+
+        // The legacy handler prints to stdout on every request; keep that cost but not the noise
+        originalOut = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(originalOut);
+        try (Stream<Path> paths = Files.walk(baseDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public MockHttpServletResponse legacyHandler() throws IOException {
+        MockHttpServletResponse response = new DiscardingResponse();
+        ResponseEntity<Resource> entity = legacyServeReportFile(REPORT_ID, FILENAME);
+        ServletServerHttpResponse output = new ServletServerHttpResponse(response);
+        output.getHeaders().putAll(entity.getHeaders());
+        converter.write(entity.getBody(), entity.getHeaders().getContentType(), output);
+        output.flush();
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse fileService() throws IOException {
+        MockHttpServletResponse response = new DiscardingResponse();
+        fileService.serve(uploadProperties.getReportUploadPath(REPORT_ID).resolve(FILENAME),
+            new MockHttpServletRequest("GET", "/uploads/reports/1/" + FILENAME), response);
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse fileServiceRange() throws IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/uploads/reports/1/" + FILENAME);
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-8191");
+        MockHttpServletResponse response = new DiscardingResponse();
+        fileService.serve(uploadProperties.getReportUploadPath(REPORT_ID).resolve(FILENAME), request, response);
+        return response;
+    }
+
+    private static class DiscardingResponse extends MockHttpServletResponse {
+
+        private final ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public void write(int b) {
+            }
+
+            @Override
+            public void write(byte[] b, int off, int len) {
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+        };
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+            return outputStream;
+        }
+    }
+
+    /**
+     * Copy of the previous FileController.serveReportFile.
+     */
+    private ResponseEntity<Resource> legacyServeReportFile(Long reportId, String filename) throws IOException {
+        System.out.println("=== FileController.serveReportFile called ===");
+        System.out.println("reportId: " + reportId);
+        System.out.println("filename: " + filename);
+
+        Path basePath = uploadProperties.getUploadPath().normalize();
+        Path filePath = uploadProperties.getReportUploadPath(reportId).resolve(filename).normalize();
+
+        System.out.println("basePath: " + basePath);
+        System.out.println("filePath: " + filePath);
+        System.out.println("file exists: " + Files.exists(filePath));
+        System.out.println("file readable: " + Files.isReadable(filePath));
+
+        if (!filePath.startsWith(basePath)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Resource resource = new UrlResource(filePath.toUri());
+        if (resource.exists() && resource.isReadable()) {
+            return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(FileService.determineContentType(filename)))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"" + resource.getFilename() + "\"")
+                .body(resource);
+        }
+        return ResponseEntity.notFound().build();
+    }
+}
@@ -0,0 +1,118 @@
+package com.slm.backend.benchmark;
+
+import com.slm.backend.security.JwtAuthenticationFilter;
+import com.slm.backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Per-request cost of authenticating a bearer token: the previous filter (four to five
+ * parses, each rebuilding the key and parser), a single verification with the shared parser
+ * (what a token's first request costs now), and the filter with the claims cache warm.
+ * Token creation (login and registration) is measured alongside.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-that-is-at-least-256-bits-long-for-the-hs256-algorithm";
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtUtil jwtUtil;
+    private JwtAuthenticationFilter filter;
+    private MockHttpServletRequest request;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, 86_400_000L, 10_000, new SimpleMeterRegistry());
+        filter = new JwtAuthenticationFilter(jwtUtil);
+        token = jwtUtil.generateToken("reporter@example.com", 42L, "REPORTER");
+        request = new MockHttpServletRequest("GET", "/api/reports");
+        request.addHeader("Authorization", "Bearer " + token);
+        // Warm the claims cache
+        jwtUtil.verifyToken(token);
+    }
+
+    @TearDown(Level.Invocation)
+    public void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("reporter@example.com", 42L, "REPORTER");
+    }
+
+    @Benchmark
+    public Authentication legacyFilter() {
+        legacyDoFilterInternal(request);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Claims singleVerification() {
+        return jwtUtil.extractClaim(token, Function.identity());
+    }
+
+    @Benchmark
+    public Authentication cachedFilter() throws ServletException, IOException {
+        // A fresh request each time, as OncePerRequestFilter marks the request as filtered
+        MockHttpServletRequest fresh = new MockHttpServletRequest("GET", "/api/reports");
+        fresh.addHeader("Authorization", request.getHeader("Authorization"));
+        filter.doFilter(fresh, new MockHttpServletResponse(), NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    /**
+     * Copy of the previous JwtAuthenticationFilter.doFilterInternal and the JwtUtil calls it made.
+     */
+    private void legacyDoFilterInternal(MockHttpServletRequest request) {
+        final String authHeader = request.getHeader("Authorization");
+        final String token = authHeader.substring(7);
+        final String email = legacyExtractAllClaims(token).getSubject();
+        final String role = legacyExtractAllClaims(token).get("role", String.class);
+
+        if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            boolean valid = legacyExtractAllClaims(token).getSubject().equals(email)
+                && !legacyExtractAllClaims(token).getExpiration().before(new Date());
+            if (valid) {
+                List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_" + role));
+                UsernamePasswordAuthenticationToken authToken =
+                    new UsernamePasswordAuthenticationToken(email, null, authorities);
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
+            }
+        }
+    }
+
+    private static Claims legacyExtractAllClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+            .verifyWith(key)
+            .build()
+            .parseSignedClaims(token)
+            .getPayload();
+    }
+}
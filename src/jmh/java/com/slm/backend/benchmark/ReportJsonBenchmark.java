@@ -0,0 +1,124 @@
+package com.slm.backend.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import com.slm.backend.dto.CategoryDto;
+import com.slm.backend.dto.TagDto;
+import com.slm.backend.dto.report.ReportDto;
+import com.slm.backend.dto.report.ReportListResponse;
+import com.slm.backend.dto.report.ReportSummaryDto;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.ReportImage;
+import com.slm.backend.service.ReportService;
+import com.slm.backend.service.ReportViewCounter;
+import com.slm.backend.service.TaxonomyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson serialization of a page of reports (full and summary views) and of the tag and
+ * category lists. The mapper is configured like Spring Boot's (JavaTimeModule, ISO dates),
+ * with and without the Blackbird module; the gc profiler reports allocation per response.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReportJsonBenchmark {
+
+    @Param({"20"})
+    public int pageSize;
+
+    @Param({"reflection", "blackbird"})
+    public String propertyAccess;
+
+    private ObjectMapper objectMapper;
+    private ReportListResponse<ReportDto> fullPage;
+    private ReportListResponse<ReportSummaryDto> summaryPage;
+    private List<TagDto> tags;
+    private List<CategoryDto> categories;
+
+    @Setup
+    public void setup() throws Throwable {
+        Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+        if (propertyAccess.equals("blackbird")) {
+            builder.modulesToInstall(new BlackbirdModule());
+        }
+        objectMapper = builder.build();
+
+        ReportService reportService = new ReportService(null, null, null, null, null, null,
+            new ReportViewCounter(null, null, new SimpleMeterRegistry()), null, null, null, null, null,
+            new TaxonomyService(null, null, null), null, null);
+        MethodHandle mapToDto = MethodHandles.privateLookupIn(ReportService.class, MethodHandles.lookup())
+            .findVirtual(ReportService.class, "mapToDto", MethodType.methodType(ReportDto.class, Report.class));
+
+        List<ReportDto> reports = new ArrayList<>();
+        List<ReportSummaryDto> summaries = new ArrayList<>();
+        for (int i = 1; i <= pageSize; i++) {
+            Report report = BenchmarkData.report(i, 5, 6);
+            ReportDto dto = (ReportDto) mapToDto.invoke(reportService, report);
+            reports.add(dto);
+            summaries.add(ReportSummaryDto.builder()
+                .id(dto.getId())
+                .title(dto.getTitle())
+                .slug(dto.getSlug())
+                .excerpt(dto.getExcerpt())
+                .publishedAt(dto.getPublishedAt())
+                .createdAt(dto.getCreatedAt())
+                .updatedAt(dto.getUpdatedAt())
+                .status(dto.getStatus())
+                .author(dto.getAuthor())
+                .category(dto.getCategory())
+                .viewCount(dto.getViewCount())
+                .featuredImage(dto.getFeaturedImage())
+                .thumbnailUrl(report.getImages().stream().findFirst().map(ReportImage::getThumbnailUrl).orElse(null))
+                .build());
+        }
+
+        fullPage = ReportListResponse.<ReportDto>builder()
+            .reports(reports).total(500L).page(0).pageSize(pageSize).totalPages(500 / pageSize).build();
+        summaryPage = ReportListResponse.<ReportSummaryDto>builder()
+            .reports(summaries).total(500L).page(0).pageSize(pageSize).totalPages(500 / pageSize).build();
+
+        LocalDateTime created = LocalDateTime.of(2024, 1, 15, 8, 0);
+        tags = new ArrayList<>();
+        for (long i = 1; i <= 60; i++) {
+            tags.add(TagDto.builder().id(i).name("Tag " + i).slug("tag-" + i)
+                .createdAt(created).updatedAt(created.plusDays(i)).build());
+        }
+        categories = new ArrayList<>();
+        for (long i = 1; i <= 15; i++) {
+            categories.add(CategoryDto.builder().id(i).name("Category " + i).slug("category-" + i)
+                .description("Reports about category " + i).color("#3366ff")
+                .createdAt(created).updatedAt(created.plusDays(i)).build());
+        }
+    }
+
+    @Benchmark
+    public byte[] fullView() throws Exception {
+        return objectMapper.writeValueAsBytes(fullPage);
+    }
+
+    @Benchmark
+    public byte[] summaryView() throws Exception {
+        return objectMapper.writeValueAsBytes(summaryPage);
+    }
+
+    @Benchmark
+    public byte[] tagList() throws Exception {
+        return objectMapper.writeValueAsBytes(tags);
+    }
+
+    @Benchmark
+    public byte[] categoryList() throws Exception {
+        return objectMapper.writeValueAsBytes(categories);
+    }
+}
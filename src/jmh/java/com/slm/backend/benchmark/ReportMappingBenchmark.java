@@ -0,0 +1,49 @@
+package com.slm.backend.benchmark;
+
+import com.slm.backend.dto.report.ReportDto;
+import com.slm.backend.entity.Report;
+import com.slm.backend.service.ReportService;
+import com.slm.backend.service.ReportViewCounter;
+import com.slm.backend.service.TaxonomyService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReportService.mapToDto over a loaded report graph (author, category, tags, images),
+ * i.e. the per-report cost of the detail and full list responses.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ReportMappingBenchmark {
+
+    @Param({"0", "12"})
+    public int imageCount;
+
+    private ReportService reportService;
+    private MethodHandle mapToDto;
+    private Report report;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        ReportViewCounter viewCounter = new ReportViewCounter(null, null, new SimpleMeterRegistry());
+        viewCounter.increment(1L);
+        // Only the view counter and the (empty) taxonomy snapshot are used while mapping
+        reportService = new ReportService(null, null, null, null, null, null, viewCounter, null, null, null, null, null,
+            new TaxonomyService(null, null, null), null, null);
+        // mapToDto is private; a method handle calls it without reflection overhead per call
+        mapToDto = MethodHandles.privateLookupIn(ReportService.class, MethodHandles.lookup())
+            .findVirtual(ReportService.class, "mapToDto", MethodType.methodType(ReportDto.class, Report.class));
+        report = BenchmarkData.report(1L, 5, imageCount);
+    }
+
+    @Benchmark
+    public ReportDto mapToDto() throws Throwable {
+        return (ReportDto) mapToDto.invoke(reportService, report);
+    }
+}
@@ -0,0 +1,169 @@
+package com.slm.backend.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * First page (20 newest ids plus the total) of GET /reports?tagIds=1,2 over reportCount
+ * reports with TAGS_PER_REPORT of TAG_COUNT tags each, using the SQL Hibernate renders for
+ * ReportRepositoryImpl's tag filters: tagMatch=any (one EXISTS) and tagMatch=all (one EXISTS
+ * per tag). allGroupBy is the alternative for "all", a GROUP BY / HAVING subquery on
+ * report_tags; distinctJoin is the previous LEFT JOIN + DISTINCT query for "any".
+ * Runs against in-memory H2 by default; H2 plans differ from MySQL's, so point
+ * -Dbenchmark.jdbc.url (with .user and .password) at a scratch MySQL schema for real numbers.
+ * allGroupBy is not in the default set, as H2 takes minutes per operation at 1M reports:
+ * java -jar build/libs/*-jmh.jar ReportTagFilter -p query=all,allGroupBy -p reportCount=100000
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class ReportTagFilterBenchmark {
+
+    private static final int TAG_COUNT = 50;
+    private static final int TAGS_PER_REPORT = 3;
+    private static final int PAGE_SIZE = 20;
+    private static final int BATCH_SIZE = 10_000;
+
+    private static final String ANY_FILTER =
+        "EXISTS (SELECT 1 FROM report_tags rt WHERE rt.tag_id IN (?, ?) AND rt.report_id = r.id)";
+    private static final String ALL_FILTER =
+        "EXISTS (SELECT 1 FROM report_tags rt WHERE rt.tag_id = ? AND rt.report_id = r.id) "
+            + "AND EXISTS (SELECT 1 FROM report_tags rt2 WHERE rt2.tag_id = ? AND rt2.report_id = r.id)";
+    private static final String ALL_GROUP_BY_FILTER =
+        "r.id IN (SELECT rt.report_id FROM report_tags rt WHERE rt.tag_id IN (?, ?) "
+            + "GROUP BY rt.report_id HAVING COUNT(DISTINCT rt.tag_id) = ?)";
+    private static final String DISTINCT_JOIN =
+        " FROM reports r LEFT JOIN report_tags rt ON rt.report_id = r.id WHERE rt.tag_id IN (?, ?)";
+
+    @Param({"10000", "100000", "1000000"})
+    public int reportCount;
+
+    @Param({"any", "all", "distinctJoin"})
+    public String query;
+
+    private Connection connection;
+    private PreparedStatement pageStatement;
+    private PreparedStatement countStatement;
+
+    @Setup
+    public void setup() throws SQLException {
+        // H2 would otherwise return the cached result of the repeated, unchanged query
+        connection = DriverManager.getConnection(
+            System.getProperty("benchmark.jdbc.url",
+                "jdbc:h2:mem:tag-filter-benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1;OPTIMIZE_REUSE_RESULTS=0"),
+            System.getProperty("benchmark.jdbc.user", "sa"),
+            System.getProperty("benchmark.jdbc.password", ""));
+        createSchema();
+        seed();
+
+        if (query.equals("distinctJoin")) {
+            pageStatement = connection.prepareStatement("SELECT DISTINCT r.id, r.created_at" + DISTINCT_JOIN
+                + " ORDER BY r.created_at DESC LIMIT " + PAGE_SIZE);
+            countStatement = connection.prepareStatement("SELECT COUNT(DISTINCT r.id)" + DISTINCT_JOIN);
+        } else {
+            String filter = switch (query) {
+                case "all" -> ALL_FILTER;
+                case "allGroupBy" -> ALL_GROUP_BY_FILTER;
+                default -> ANY_FILTER;
+            };
+            pageStatement = connection.prepareStatement("SELECT r.id FROM reports r WHERE " + filter
+                + " ORDER BY r.created_at DESC, r.id LIMIT " + PAGE_SIZE);
+            countStatement = connection.prepareStatement("SELECT COUNT(r.id) FROM reports r WHERE " + filter);
+        }
+        for (PreparedStatement statement : List.of(pageStatement, countStatement)) {
+            statement.setLong(1, 1L);
+            statement.setLong(2, 2L);
+            if (query.equals("allGroupBy")) {
+                statement.setLong(3, 2L);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE report_tags");
+            statement.execute("DROP TABLE reports");
+        }
+        connection.close();
+    }
+
+    @Benchmark
+    public long firstPage() throws SQLException {
+        long checksum = 0;
+        try (ResultSet ids = pageStatement.executeQuery()) {
+            while (ids.next()) {
+                checksum += ids.getLong(1);
+            }
+        }
+        try (ResultSet total = countStatement.executeQuery()) {
+            total.next();
+            return checksum + total.getLong(1);
+        }
+    }
+
+    /**
+     * The columns the queries touch, keyed and indexed like the application schema.
+     */
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS report_tags");
+            statement.execute("DROP TABLE IF EXISTS reports");
+            statement.execute("CREATE TABLE reports (id BIGINT NOT NULL, title VARCHAR(255) NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, created_at TIMESTAMP(6) NOT NULL, PRIMARY KEY (id))");
+            statement.execute("CREATE TABLE report_tags (report_id BIGINT NOT NULL, tag_id BIGINT NOT NULL, "
+                + "PRIMARY KEY (report_id, tag_id))");
+            statement.execute("CREATE INDEX idx_report_tags_tag_report ON report_tags (tag_id, report_id)");
+        }
+    }
+
+    private void seed() throws SQLException {
+        boolean autoCommit = connection.getAutoCommit();
+        connection.setAutoCommit(false);
+        Random random = new Random(42);
+        LocalDateTime start = LocalDateTime.now().minusMinutes(reportCount);
+        try (PreparedStatement reports = connection.prepareStatement(
+                 "INSERT INTO reports (id, title, status, created_at) VALUES (?, ?, 'PUBLISHED', ?)");
+             PreparedStatement reportTags = connection.prepareStatement(
+                 "INSERT INTO report_tags (report_id, tag_id) VALUES (?, ?)")) {
+            for (long id = 1; id <= reportCount; id++) {
+                reports.setLong(1, id);
+                reports.setString(2, "Report " + id);
+                reports.setTimestamp(3, Timestamp.valueOf(start.plusMinutes(id)));
+                reports.addBatch();
+
+                Set<Long> tagIds = new HashSet<>();
+                while (tagIds.size() < TAGS_PER_REPORT) {
+                    tagIds.add(1L + random.nextInt(TAG_COUNT));
+                }
+                for (Long tagId : tagIds) {
+                    reportTags.setLong(1, id);
+                    reportTags.setLong(2, tagId);
+                    reportTags.addBatch();
+                }
+
+                if (id % BATCH_SIZE == 0 || id == reportCount) {
+                    reports.executeBatch();
+                    reportTags.executeBatch();
+                    connection.commit();
+                }
+            }
+        } finally {
+            connection.setAutoCommit(autoCommit);
+        }
+    }
+}
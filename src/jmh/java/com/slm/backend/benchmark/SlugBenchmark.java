@@ -0,0 +1,86 @@
+package com.slm.backend.benchmark;
+
+import com.slm.backend.repository.CategoryRepository;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.TagRepository;
+import com.slm.backend.service.SlugService;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Slug generation: the previous regex based normalization (shared by reports, tags and
+ * categories) against SlugService, and SlugService resolving a slug with 20 taken variants
+ * from the single prefix query (stubbed), which previously took 21 existsBySlug queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SlugBenchmark {
+
+    @Param({
+        "Annual Water Quality Report 2024",
+        "Évaluation des risques — Île-de-France (édition révisée) №3"
+    })
+    public String title;
+
+    private SlugService slugService;
+
+    @Setup
+    public void setup() {
+        List<String> taken = new ArrayList<>();
+        String base = SlugService.toSlug(title);
+        taken.add(base);
+        for (int i = 1; i <= 20; i++) {
+            taken.add(base + "-" + i);
+        }
+        slugService = new SlugService(takenSlugs(ReportRepository.class, taken),
+            takenSlugs(TagRepository.class, taken), takenSlugs(CategoryRepository.class, taken));
+    }
+
+    @Benchmark
+    public String legacySlug() {
+        return legacyNormalize(title);
+    }
+
+    @Benchmark
+    public String toSlug() {
+        return SlugService.toSlug(title);
+    }
+
+    @Benchmark
+    public String generateReportSlug() {
+        return slugService.generateReportSlug(title);
+    }
+
+    /**
+     * Copy of the normalization in the previous generateSlug methods.
+     */
+    private static String legacyNormalize(String name) {
+        String normalized = Normalizer.normalize(name, Normalizer.Form.NFD);
+        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+        String slug = pattern.matcher(normalized).replaceAll("");
+
+        return slug.toLowerCase()
+            .replaceAll("[^a-z0-9\\s-]", "")
+            .replaceAll("[\\s]+", "-")
+            .replaceAll("-+", "-")
+            .replaceAll("^-|-$", "");
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T takenSlugs(Class<T> repositoryType, List<String> taken) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+            (proxy, method, args) -> {
+                if (method.getName().equals("findSlugsStartingWith")) {
+                    return taken;
+                }
+                throw new UnsupportedOperationException(method.getName());
+            });
+    }
+}
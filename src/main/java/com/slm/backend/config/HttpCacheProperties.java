@@ -0,0 +1,30 @@
+package com.slm.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.http-cache")
+public class HttpCacheProperties {
+
+    /**
+     * Cache-Control value used when an endpoint has no policy of its own.
+     * "no-cache" lets clients store responses but revalidate them with ETag on every use.
+     */
+    private String defaultPolicy = "no-cache";
+
+    /**
+     * Cache-Control value per endpoint group (reports, report, tags, categories, testimonials, uploads),
+     * e.g. app.http-cache.policies.tags=public, max-age=300
+     */
+    private Map<String, String> policies = new HashMap<>();
+
+    public String getPolicy(String name) {
+        return policies.getOrDefault(name, defaultPolicy);
+    }
+}
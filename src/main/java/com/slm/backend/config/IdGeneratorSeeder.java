@@ -0,0 +1,68 @@
+package com.slm.backend.config;
+
+import com.slm.backend.entity.BaseEntity;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.Table;
+import jakarta.persistence.metamodel.EntityType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Moves each entity's id_generators row up to the table's highest id before requests are served.
+ * V4__id_generators seeds the rows once, but instances still allocating with AUTO_INCREMENT
+ * during a rolling deploy can insert past them, and Hibernate would then hand out taken ids.
+ * A no-op once the rows are ahead; scripts/migrate-id-generators.sql does the same by hand.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdGeneratorSeeder implements SmartInitializingSingleton {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (EntityType<?> entity : entityManagerFactory.getMetamodel().getEntities()) {
+            Class<?> type = entity.getJavaType();
+            Table table = type.getAnnotation(Table.class);
+            if (BaseEntity.class.isAssignableFrom(type) && table != null) {
+                seed(table.name());
+            }
+        }
+    }
+
+    private void seed(String table) {
+        // Rows hold the highest id already allocated (hibernate.id.generator.stored_last_used)
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        List<Long> current = jdbcTemplate.queryForList(
+            "SELECT next_val FROM " + BaseEntity.ID_GENERATOR_TABLE + " WHERE entity = ?", Long.class, table);
+
+        if (current.isEmpty()) {
+            try {
+                jdbcTemplate.update(
+                    "INSERT INTO " + BaseEntity.ID_GENERATOR_TABLE + " (entity, next_val) VALUES (?, ?)", table, maxId);
+                log.info("Seeded id generator for {} at {}", table, maxId);
+            } catch (DuplicateKeyException e) {
+                // Another instance seeded it first; make sure it is far enough ahead
+                advance(table, maxId);
+            }
+        } else if (current.get(0) < maxId) {
+            advance(table, maxId);
+        }
+    }
+
+    private void advance(String table, long maxId) {
+        int updated = jdbcTemplate.update("UPDATE " + BaseEntity.ID_GENERATOR_TABLE
+            + " SET next_val = ? WHERE entity = ? AND next_val < ?", maxId, table, maxId);
+        if (updated > 0) {
+            log.warn("Id generator for {} was behind the table, moved to {}", table, maxId);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.slm.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+@Slf4j
+@Configuration
+public class ImageProcessingConfig {
+
+    /**
+     * Bounded pool for image variant jobs. A full queue drops the job (the image keeps
+     * working without a thumbnail) rather than blocking the upload request.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageTaskExecutor(ImageProperties imageProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(imageProperties.getWorkerThreads());
+        executor.setMaxPoolSize(imageProperties.getWorkerThreads());
+        executor.setQueueCapacity(imageProperties.getQueueCapacity());
+        executor.setThreadNamePrefix("image-variants-");
+        executor.setRejectedExecutionHandler((job, pool) ->
+            log.warn("Image variant queue is full ({} pending), skipping job", pool.getQueue().size()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
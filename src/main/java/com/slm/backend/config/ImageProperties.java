@@ -0,0 +1,49 @@
+package com.slm.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.images")
+public class ImageProperties {
+
+    /**
+     * Threads generating thumbnails and variants in the background
+     */
+    private int workerThreads = 2;
+
+    /**
+     * Pending variant jobs; uploads beyond this are served without variants
+     */
+    private int queueCapacity = 100;
+
+    /**
+     * Width of the thumbnail stored in ReportImage.thumbnailUrl
+     */
+    private int thumbnailWidth = 400;
+
+    /**
+     * Widths of the responsive variants; widths not smaller than the original are skipped
+     */
+    private List<Integer> variantWidths = List.of(800, 1600);
+
+    /**
+     * Largest original (width x height) decoded for variants; bigger images are served as
+     * uploaded, as decoding them could exhaust the heap (a small file can declare huge dimensions)
+     */
+    private long maxPixels = 40_000_000;
+
+    /**
+     * JPEG quality for generated images (0-1)
+     */
+    private float jpegQuality = 0.85f;
+
+    /**
+     * Also write WebP copies when an ImageIO WebP writer is on the classpath
+     */
+    private boolean webp = false;
+}
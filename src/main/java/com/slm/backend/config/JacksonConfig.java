@@ -0,0 +1,22 @@
+package com.slm.backend.config;
+
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Replaces Jackson's reflective getter calls with generated lambdas. Spring Boot
+     * registers every Module bean on the application's ObjectMapper.
+     * Off by default: in ReportJsonBenchmark it was slower than reflection for the report
+     * responses (summary page 43.6 µs against 38.4 µs, full page 529 µs against 499 µs).
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.json.blackbird", havingValue = "true")
+    public BlackbirdModule blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
@@ -0,0 +1,68 @@
+package com.slm.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.slm.backend.util.RequestTimings;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.lang.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that sends the request's Server-Timing header ahead of the body.
+ * By default the body is streamed and the header carries the db and mapping phases.
+ * Timing serialization too means writing the JSON to a buffer first, as headers must
+ * precede the body; that copy of every response is only made when enabled
+ * (app.sql-monitoring.serialization-timing), and it also gives the response a Content-Length.
+ */
+public class ServerTimingJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    private static final int INITIAL_BUFFER_SIZE = 8192;
+
+    private final boolean timeSerialization;
+
+    public ServerTimingJsonConverter(ObjectMapper objectMapper, boolean timeSerialization) {
+        super(objectMapper);
+        this.timeSerialization = timeSerialization;
+    }
+
+    @Override
+    protected void writeInternal(Object object, @Nullable Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        RequestTimings timings = RequestTimings.current();
+        if (timings == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        if (!timeSerialization) {
+            outputMessage.getHeaders().set(RequestTimings.SERVER_TIMING_HEADER, timings.serverTiming());
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+
+        timings.serializationStarted();
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(INITIAL_BUFFER_SIZE);
+        super.writeInternal(object, type, new HttpOutputMessage() {
+            @Override
+            public OutputStream getBody() {
+                return buffer;
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return outputMessage.getHeaders();
+            }
+        });
+        timings.serializationFinished();
+
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.set(RequestTimings.SERVER_TIMING_HEADER, timings.serverTiming());
+        headers.setContentLength(buffer.size());
+        buffer.writeTo(outputMessage.getBody());
+    }
+}
@@ -0,0 +1,99 @@
+package com.slm.backend.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.slm.backend.util.RequestTimings;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Per-request SQL statistics. Lazy associations and open-session-in-view let a single GET
+ * issue many queries unnoticed, so every statement on the application DataSource is counted
+ * and timed against the current request (see RequestTimings), reported in a Server-Timing
+ * header and logged by SqlMonitoringFilter when a request exceeds the thresholds.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.sql-monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public static ProxyDataSourcePostProcessor sqlMonitoringDataSourcePostProcessor() {
+        return new ProxyDataSourcePostProcessor();
+    }
+
+    /**
+     * Runs ahead of Spring Security, so statements of the authentication filter count too.
+     */
+    @Bean
+    public FilterRegistrationBean<SqlMonitoringFilter> sqlMonitoringFilter(SqlMonitoringProperties properties) {
+        FilterRegistrationBean<SqlMonitoringFilter> registration =
+            new FilterRegistrationBean<>(new SqlMonitoringFilter(properties));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    /**
+     * Replaces Spring Boot's JSON converter (it backs off when one is defined).
+     */
+    @Bean
+    @ConditionalOnProperty(name = "app.sql-monitoring.server-timing", havingValue = "true", matchIfMissing = true)
+    public ServerTimingJsonConverter serverTimingJsonConverter(ObjectMapper objectMapper,
+                                                               SqlMonitoringProperties properties) {
+        return new ServerTimingJsonConverter(objectMapper, properties.isSerializationTiming());
+    }
+
+    /**
+     * Wraps the DataSource last, so VirtualThreadsConfig still sees the Hikari pool.
+     */
+    static class ProxyDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public int getOrder() {
+            return Ordered.LOWEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                log.info("Counting SQL statements per request on '{}'", beanName);
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                    .listener(new RequestTimingsListener())
+                    .build();
+            }
+            return bean;
+        }
+    }
+
+    private static class RequestTimingsListener implements QueryExecutionListener {
+
+        @Override
+        public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                timings.statementStarted();
+            }
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+            RequestTimings timings = RequestTimings.current();
+            if (timings != null) {
+                // A batch counts once, as the one round trip it is
+                timings.statementFinished(queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery());
+            }
+        }
+    }
+}
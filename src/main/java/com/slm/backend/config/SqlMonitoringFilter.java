@@ -0,0 +1,94 @@
+package com.slm.backend.config;
+
+import com.slm.backend.util.RequestTimings;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects RequestTimings for each request and warns about endpoints that run too many
+ * statements or repeat the same one (N+1 lazy loading). Warnings are sampled to one per
+ * endpoint per warn interval. JSON responses get their Server-Timing header from
+ * ServerTimingJsonConverter; other responses get it here if they are not committed yet.
+ */
+@Slf4j
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+    // Bounds the sampling state should unmatched paths run statements
+    private static final int MAX_TRACKED_ENDPOINTS = 1000;
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final SqlMonitoringProperties properties;
+    private final Map<String, Long> nextWarningNanos = new ConcurrentHashMap<>();
+
+    public SqlMonitoringFilter(SqlMonitoringProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTimings timings = RequestTimings.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            RequestTimings.clear();
+            if (properties.isServerTiming() && !response.isCommitted()
+                    && !response.containsHeader(RequestTimings.SERVER_TIMING_HEADER)) {
+                response.setHeader(RequestTimings.SERVER_TIMING_HEADER, timings.serverTiming());
+            }
+            checkStatements(request, timings);
+        }
+    }
+
+    private void checkStatements(HttpServletRequest request, RequestTimings timings) {
+        Map.Entry<String, Integer> mostRepeated = timings.mostRepeatedStatement();
+        boolean tooMany = timings.getStatements() > properties.getMaxStatements();
+        boolean repeated = mostRepeated != null && mostRepeated.getValue() >= properties.getMaxRepeatedStatements();
+        if (!tooMany && !repeated) {
+            return;
+        }
+
+        String endpoint = request.getMethod() + " " + endpointPattern(request);
+        if (!shouldWarn(endpoint)) {
+            return;
+        }
+        log.warn("{} ran {} SQL statements ({} ms in the database); most repeated ({}x): {}",
+            endpoint, timings.getStatements(), TimeUnit.NANOSECONDS.toMillis(timings.getDbNanos()),
+            mostRepeated.getValue(), abbreviate(mostRepeated.getKey()));
+    }
+
+    private boolean shouldWarn(String endpoint) {
+        if (nextWarningNanos.size() > MAX_TRACKED_ENDPOINTS) {
+            nextWarningNanos.clear();
+        }
+        long now = System.nanoTime();
+        long next = now + properties.getWarnInterval().toNanos();
+        Long previous = nextWarningNanos.get(endpoint);
+        if (previous != null && now - previous < 0) {
+            return false;
+        }
+        // Only the thread that moves the deadline logs
+        return previous == null
+            ? nextWarningNanos.putIfAbsent(endpoint, next) == null
+            : nextWarningNanos.replace(endpoint, previous, next);
+    }
+
+    private static String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql;
+    }
+}
@@ -0,0 +1,43 @@
+package com.slm.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.sql-monitoring")
+public class SqlMonitoringProperties {
+
+    /**
+     * Count SQL statements and database time per request
+     */
+    private boolean enabled = true;
+
+    /**
+     * Add a Server-Timing header (db, mapping, serialization) to responses
+     */
+    private boolean serverTiming = true;
+
+    /**
+     * Include JSON serialization in Server-Timing; buffers every JSON response body in memory
+     */
+    private boolean serializationTiming = false;
+
+    /**
+     * Warn when a request runs more statements than this
+     */
+    private int maxStatements = 20;
+
+    /**
+     * Warn when a request runs the same SQL this many times (typically an N+1 lazy load)
+     */
+    private int maxRepeatedStatements = 5;
+
+    /**
+     * At most one warning per endpoint within this interval
+     */
+    private Duration warnInterval = Duration.ofMinutes(1);
+}
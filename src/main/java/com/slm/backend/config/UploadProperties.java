@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.time.Duration;
 
 @Getter
 @Setter
@@ -34,6 +35,21 @@ public class UploadProperties {
      */
     private String urlPrefix = "http://localhost:3000";
 
+    /**
+     * Maximum number of files whose metadata (size, mtime, content type) is cached for serving
+     */
+    private long metadataCacheSize = 10_000;
+
+    /**
+     * How long cached file metadata is trusted before the file is checked again
+     */
+    private Duration metadataCacheTtl = Duration.ofMinutes(5);
+
+    /**
+     * Maximum number of files accepted by one batch image upload
+     */
+    private int maxBatchFiles = 50;
+
     /**
      * Returns the full filesystem path for uploads.
      * Combines baseDir and path.
@@ -0,0 +1,152 @@
+package com.slm.backend.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Virtual thread mode (app.threads.virtual=true, which turns on spring.threads.virtual.enabled).
+ * Request concurrency is then no longer capped by the Tomcat pool, so any number of requests
+ * can wait for a database connection at once. A fair semaphore sized to the Hikari pool admits
+ * them in arrival order, and gives up after the pool's connection timeout like Hikari would.
+ * It also bounds how many virtual threads can be pinned to a carrier inside the JDBC driver.
+ * Threads waiting for a permit are reported as db.connections.waiting (Hikari's pending
+ * gauge only sees the ones that got past the semaphore).
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "app.threads.virtual", havingValue = "true")
+public class VirtualThreadsConfig {
+
+    // What Hikari uses when maximum-pool-size is not set
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BoundedDataSourcePostProcessor boundedDataSourcePostProcessor() {
+        return new BoundedDataSourcePostProcessor();
+    }
+
+    @Bean
+    public MeterBinder boundedDataSourceMetrics(DataSource dataSource) throws SQLException {
+        if (!dataSource.isWrapperFor(BoundedDataSource.class)) {
+            return registry -> { };
+        }
+        BoundedDataSource bounded = dataSource.unwrap(BoundedDataSource.class);
+        return registry -> Gauge.builder("db.connections.waiting", bounded.permits, Semaphore::getQueueLength)
+            .description("Threads waiting for a database connection permit")
+            .register(registry);
+    }
+
+    /**
+     * Runs before SqlMonitoringConfig's proxy, which would otherwise hide the Hikari pool.
+     */
+    static class BoundedDataSourcePostProcessor implements BeanPostProcessor, Ordered {
+
+        @Override
+        public int getOrder() {
+            return Ordered.HIGHEST_PRECEDENCE;
+        }
+
+        @Override
+        public Object postProcessAfterInitialization(Object bean, String beanName) {
+            if (bean instanceof HikariDataSource hikari) {
+                int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                log.info("Bounding concurrent connection use of '{}' to {}", beanName, poolSize);
+                return new BoundedDataSource(hikari, poolSize, hikari.getConnectionTimeout());
+            }
+            return bean;
+        }
+    }
+
+    /**
+     * Holds a permit from getConnection until the connection is closed.
+     */
+    static class BoundedDataSource extends DelegatingDataSource {
+
+        private final Semaphore permits;
+        private final long timeoutMs;
+
+        BoundedDataSource(DataSource target, int maxConnections, long timeoutMs) {
+            super(target);
+            this.permits = new Semaphore(maxConnections, true);
+            this.timeoutMs = timeoutMs;
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            acquire();
+            return bounded(() -> super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            acquire();
+            return bounded(() -> super.getConnection(username, password));
+        }
+
+        private void acquire() throws SQLException {
+            try {
+                if (!permits.tryAcquire(timeoutMs, TimeUnit.MILLISECONDS)) {
+                    throw new SQLTransientConnectionException(
+                        "No database connection available after " + timeoutMs + " ms");
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new SQLTransientConnectionException("Interrupted while waiting for a database connection", e);
+            }
+        }
+
+        private Connection bounded(ConnectionSupplier supplier) throws SQLException {
+            Connection connection;
+            try {
+                connection = supplier.get();
+            } catch (SQLException | RuntimeException e) {
+                permits.release();
+                throw e;
+            }
+
+            AtomicBoolean released = new AtomicBoolean();
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+        }
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
@@ -1,17 +1,20 @@
 package com.slm.backend.controller;
 
+import com.slm.backend.dto.CategoryDto;
 import com.slm.backend.entity.Category;
 import com.slm.backend.repository.CategoryRepository;
+import com.slm.backend.service.SlugService;
+import com.slm.backend.service.TaxonomyService;
+import com.slm.backend.util.ConditionalRequests;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.text.Normalizer;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/categories")
@@ -19,17 +22,24 @@ import java.util.regex.Pattern;
 public class CategoryController {
 
     private final CategoryRepository categoryRepository;
+    private final ConditionalRequests conditionalRequests;
+    private final SlugService slugService;
+    private final TaxonomyService taxonomyService;
 
+    /**
+     * Served from the in-memory taxonomy snapshot
+     */
     @GetMapping
-    public ResponseEntity<List<Category>> getAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return ResponseEntity.ok(categories);
+    public ResponseEntity<List<CategoryDto>> getAllCategories(WebRequest request) {
+        return conditionalRequests.respond(request, "categories", taxonomyService.getCategoriesVersion(),
+            taxonomyService::getCategories);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Category> getCategoryById(@PathVariable Long id) {
-        return categoryRepository.findById(id)
-            .map(ResponseEntity::ok)
+    public ResponseEntity<CategoryDto> getCategoryById(@PathVariable Long id, WebRequest request) {
+        return taxonomyService.findCategory(id)
+            .map(category -> conditionalRequests.respond(request, "categories",
+                category.getId() + "/" + category.getUpdatedAt(), category.getUpdatedAt(), () -> category))
             .orElse(ResponseEntity.notFound().build());
     }
 
@@ -50,7 +60,7 @@ public class CategoryController {
                 .body(Map.of("message", "Category with this name already exists"));
         }
 
-        String slug = generateSlug(name);
+        String slug = slugService.generateCategorySlug(name);
 
         Category category = Category.builder()
             .name(name)
@@ -60,7 +70,8 @@ public class CategoryController {
             .build();
 
         category = categoryRepository.save(category);
-        return ResponseEntity.status(HttpStatus.CREATED).body(category);
+        taxonomyService.categorySaved(category);
+        return ResponseEntity.status(HttpStatus.CREATED).body(CategoryDto.fromEntity(category));
     }
 
     @PatchMapping("/{id}")
@@ -78,7 +89,7 @@ public class CategoryController {
 
         if (body.containsKey("name")) {
             category.setName(body.get("name"));
-            category.setSlug(generateSlug(body.get("name")));
+            category.setSlug(slugService.generateCategorySlug(body.get("name")));
         }
         if (body.containsKey("description")) {
             category.setDescription(body.get("description"));
@@ -88,7 +99,8 @@ public class CategoryController {
         }
 
         category = categoryRepository.save(category);
-        return ResponseEntity.ok(category);
+        taxonomyService.categorySaved(category);
+        return ResponseEntity.ok(CategoryDto.fromEntity(category));
     }
 
     @DeleteMapping("/{id}")
@@ -99,26 +111,7 @@ public class CategoryController {
         }
 
         categoryRepository.deleteById(id);
+        taxonomyService.categoryDeleted(id);
         return ResponseEntity.ok(Map.of("message", "Category deleted successfully"));
     }
-
-    private String generateSlug(String name) {
-        String normalized = Normalizer.normalize(name, Normalizer.Form.NFD);
-        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
-        String slug = pattern.matcher(normalized).replaceAll("");
-
-        slug = slug.toLowerCase()
-            .replaceAll("[^a-z0-9\\s-]", "")
-            .replaceAll("[\\s]+", "-")
-            .replaceAll("-+", "-")
-            .replaceAll("^-|-$", "");
-
-        String baseSlug = slug;
-        int counter = 1;
-        while (categoryRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter++;
-        }
-
-        return slug;
-    }
 }
@@ -2,18 +2,30 @@ package com.slm.backend.controller;
 
 import com.slm.backend.dto.report.*;
 import com.slm.backend.service.ImageService;
+import com.slm.backend.service.ReportCountService;
+import com.slm.backend.service.ReportExportService;
+import com.slm.backend.service.ReportImportService;
 import com.slm.backend.service.ReportService;
+import com.slm.backend.util.ConditionalRequests;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -24,12 +36,23 @@ public class ReportController {
 
     private final ReportService reportService;
     private final ImageService imageService;
+    private final ReportImportService reportImportService;
+    private final ReportExportService reportExportService;
+    private final ReportCountService reportCountService;
+    private final ConditionalRequests conditionalRequests;
 
     /**
      * Get all reports with pagination and filters
+     * view=summary returns ReportSummaryDto items without content and images
+     * tagIds matches reports having any of the tags, or all of them with tagMatch=all
+     * search matches title, excerpt and content through the full-text index; sortBy=relevance
+     * orders by match rank and the response carries a highlight per report
+     * Passing a cursor (empty for the first page) switches to keyset pagination:
+     * the response carries nextCursor, and total is only computed when includeTotal=true
+     * Supports conditional GET (ETag / If-Modified-Since) against the report collection version
      */
     @GetMapping
-    public ResponseEntity<ReportListResponse> getReports(
+    public ResponseEntity<ReportListResponse<?>> getReports(
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "10") Integer pageSize,
             @RequestParam(required = false) String search,
@@ -37,40 +60,83 @@ public class ReportController {
             @RequestParam(required = false) Long authorId,
             @RequestParam(required = false) String status,
             @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(required = false, defaultValue = "any") String tagMatch,
             @RequestParam(required = false) String dateFrom,
             @RequestParam(required = false) String dateTo,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
-            @RequestParam(required = false, defaultValue = "desc") String sortOrder
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false, defaultValue = "false") boolean includeTotal,
+            @RequestParam(required = false, defaultValue = "full") String view,
+            WebRequest request
     ) {
-        // Parse date strings to LocalDateTime
-        java.time.LocalDateTime dateFromParsed = null;
-        java.time.LocalDateTime dateToParsed = null;
-        if (dateFrom != null && !dateFrom.isEmpty()) {
-            dateFromParsed = java.time.LocalDate.parse(dateFrom).atStartOfDay();
-        }
-        if (dateTo != null && !dateTo.isEmpty()) {
-            dateToParsed = java.time.LocalDate.parse(dateTo).atTime(23, 59, 59);
+        LocalDateTime dateFromParsed = parseDateFrom(dateFrom);
+        LocalDateTime dateToParsed = parseDateTo(dateTo);
+
+        TagMatch tagMatchParsed = TagMatch.parse(tagMatch);
+        ReportView reportView = ReportView.parse(view);
+
+        if (cursor != null) {
+            return conditionalRequests.respond(request, "reports", reportService.getCollectionVersion(),
+                () -> reportService.getReportsByCursor(
+                    cursor, pageSize, search, categoryId, authorId, status, tagIds, tagMatchParsed, dateFromParsed, dateToParsed,
+                    sortBy, sortOrder, includeTotal, reportView
+                ));
         }
 
-        ReportListResponse response = reportService.getReports(
-            page, pageSize, search, categoryId, authorId, status, tagIds, dateFromParsed, dateToParsed, sortBy, sortOrder
+        return conditionalRequests.respond(request, "reports", reportService.getCollectionVersion(),
+            () -> reportService.getReports(
+                page, pageSize, search, categoryId, authorId, status, tagIds, tagMatchParsed, dateFromParsed, dateToParsed,
+                sortBy, sortOrder, reportView
+            ));
+    }
+
+    /**
+     * Export every report matching the list filters as a download, format=ndjson|csv
+     * Admin only; rows are streamed from the database as they are written, in id order
+     * NDJSON rows use the import field names, so an export can be imported elsewhere
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportReports(
+            @RequestParam(required = false, defaultValue = "ndjson") String format,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) Long authorId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) List<Long> tagIds,
+            @RequestParam(required = false, defaultValue = "any") String tagMatch,
+            @RequestParam(required = false) String dateFrom,
+            @RequestParam(required = false) String dateTo
+    ) {
+        ReportExportFormat exportFormat = ReportExportFormat.parse(format);
+        ReportFilter filter = reportService.filterFor(
+            search, categoryId, authorId, status, tagIds, TagMatch.parse(tagMatch), parseDateFrom(dateFrom), parseDateTo(dateTo)
         );
-        return ResponseEntity.ok(response);
+        String filename = "reports-" + LocalDate.now() + "." + exportFormat.getExtension();
+
+        return ResponseEntity.ok()
+            .contentType(exportFormat.getMediaType())
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(filename).build().toString())
+            .body(output -> reportExportService.export(filter, exportFormat, output));
     }
 
     /**
      * Get current user's reports
      * ADMIN sees all reports, REPORTER sees only their own
+     * Supports view=summary|full
      */
     @GetMapping("/my/list")
     @PreAuthorize("hasAnyRole('ADMIN', 'REPORTER')")
-    public ResponseEntity<ReportListResponse> getMyReports(
+    public ResponseEntity<ReportListResponse<?>> getMyReports(
             @RequestParam(required = false, defaultValue = "0") Integer page,
             @RequestParam(required = false, defaultValue = "10") Integer pageSize,
             @RequestParam(required = false) String search,
             @RequestParam(required = false) String status,
             @RequestParam(required = false, defaultValue = "createdAt") String sortBy,
-            @RequestParam(required = false, defaultValue = "desc") String sortOrder
+            @RequestParam(required = false, defaultValue = "desc") String sortOrder,
+            @RequestParam(required = false, defaultValue = "full") String view
     ) {
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         String email = auth.getName();
@@ -79,8 +145,8 @@ public class ReportController {
             .map(a -> a.getAuthority().replace("ROLE_", ""))
             .orElse("USER");
 
-        ReportListResponse response = reportService.getMyReports(
-            email, role, page, pageSize, search, status, sortBy, sortOrder
+        ReportListResponse<?> response = reportService.getMyReports(
+            email, role, page, pageSize, search, status, sortBy, sortOrder, ReportView.parse(view)
         );
         return ResponseEntity.ok(response);
     }
@@ -89,10 +155,9 @@ public class ReportController {
      * Get report by ID
      */
     @GetMapping("/{id}")
-    public ResponseEntity<ReportDto> getReportById(@PathVariable Long id) {
+    public ResponseEntity<ReportDto> getReportById(@PathVariable Long id, WebRequest request) {
         try {
-            ReportDto report = reportService.getReportById(id);
-            return ResponseEntity.ok(report);
+            return respondWithReport(reportService.getReportById(id), request);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
@@ -102,10 +167,9 @@ public class ReportController {
      * Get report by slug
      */
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<ReportDto> getReportBySlug(@PathVariable String slug) {
+    public ResponseEntity<ReportDto> getReportBySlug(@PathVariable String slug, WebRequest request) {
         try {
-            ReportDto report = reportService.getReportBySlug(slug);
-            return ResponseEntity.ok(report);
+            return respondWithReport(reportService.getReportBySlug(slug), request);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.notFound().build();
         }
@@ -113,13 +177,26 @@ public class ReportController {
 
     /**
      * Get latest published reports
+     * Supports view=summary|full
      */
     @GetMapping("/latest")
-    public ResponseEntity<List<ReportDto>> getLatestReports(
-            @RequestParam(required = false, defaultValue = "5") int limit
+    public ResponseEntity<List<?>> getLatestReports(
+            @RequestParam(required = false, defaultValue = "5") int limit,
+            @RequestParam(required = false, defaultValue = "full") String view,
+            WebRequest request
     ) {
-        List<ReportDto> reports = reportService.getLatestPublished(limit);
-        return ResponseEntity.ok(reports);
+        ReportView reportView = ReportView.parse(view);
+        return conditionalRequests.respond(request, "reports", reportService.getCollectionVersion(),
+            () -> reportService.getLatestPublished(limit, reportView));
+    }
+
+    /**
+     * Get published report counts, in total and per category and tag id
+     * Served from in-memory counters, so it costs no query
+     */
+    @GetMapping("/counts")
+    public ResponseEntity<ReportCountsDto> getReportCounts() {
+        return ResponseEntity.ok(reportCountService.getCounts());
     }
 
     /**
@@ -141,6 +218,24 @@ public class ReportController {
         }
     }
 
+    /**
+     * Import reports from NDJSON, one report per line (see ImportReportRow)
+     * Admin only; rows without authorEmail are attributed to the caller
+     * Returns counts and per-line errors; valid rows are imported even when others fail
+     */
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<?> importReports(HttpServletRequest request) {
+        try {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            ReportImportResult result = reportImportService.importReports(request.getInputStream(), authentication.getName());
+            return ResponseEntity.ok(result);
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("message", "Failed to read import: " + e.getMessage()));
+        }
+    }
+
     /**
      * Update an existing report
      * Only ADMIN and REPORTER roles can update reports
@@ -221,6 +316,23 @@ public class ReportController {
         }
     }
 
+    /**
+     * The report comes from the detail cache; the view count is part of the version
+     * because it changes without touching updatedAt.
+     */
+    private ResponseEntity<ReportDto> respondWithReport(ReportDto report, WebRequest request) {
+        String version = report.getId() + "/" + report.getUpdatedAt() + "/" + report.getViewCount();
+        return conditionalRequests.respond(request, "report", version, report.getUpdatedAt(), () -> report);
+    }
+
+    private static LocalDateTime parseDateFrom(String dateFrom) {
+        return dateFrom != null && !dateFrom.isEmpty() ? LocalDate.parse(dateFrom).atStartOfDay() : null;
+    }
+
+    private static LocalDateTime parseDateTo(String dateTo) {
+        return dateTo != null && !dateTo.isEmpty() ? LocalDate.parse(dateTo).atTime(23, 59, 59) : null;
+    }
+
     // ============================================================================
     // IMAGE ENDPOINTS
     // ============================================================================
@@ -237,7 +349,7 @@ public class ReportController {
             @RequestParam(value = "caption", required = false) String caption
     ) {
         try {
-            Map<String, Object> result = imageService.uploadImage(reportId, file, alt, caption);
+            ImageUploadResponse result = imageService.uploadImage(reportId, file, alt, caption);
             return ResponseEntity.status(HttpStatus.CREATED).body(result);
         } catch (IllegalArgumentException e) {
             return ResponseEntity.badRequest()
@@ -248,6 +360,34 @@ public class ReportController {
         }
     }
 
+    /**
+     * Upload several images for a report in one multipart request (any number of file parts)
+     * Files are streamed to disk as they arrive; the response lists a result per file, and
+     * is 201 when at least one file was stored, 400 otherwise
+     */
+    @PostMapping(value = "/{reportId}/images/batch", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasAnyRole('ADMIN', 'REPORTER')")
+    public ResponseEntity<?> uploadImages(
+            @PathVariable Long reportId,
+            HttpServletRequest request
+    ) {
+        try {
+            List<ImageUploadResult> results = imageService.uploadImages(reportId, request);
+            long uploaded = results.stream().filter(ImageUploadResult::isUploaded).count();
+            return ResponseEntity.status(uploaded > 0 ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST)
+                .body(ImageBatchUploadResponse.builder()
+                    .message(uploaded + " of " + results.size() + " images uploaded")
+                    .results(results)
+                    .build());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                .body(Map.of("message", e.getMessage()));
+        } catch (IOException e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(Map.of("message", "Failed to upload images: " + e.getMessage()));
+        }
+    }
+
     /**
      * Delete an image from a report
      */
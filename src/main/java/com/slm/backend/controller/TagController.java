@@ -1,17 +1,20 @@
 package com.slm.backend.controller;
 
+import com.slm.backend.dto.TagDto;
 import com.slm.backend.entity.Tag;
 import com.slm.backend.repository.TagRepository;
+import com.slm.backend.service.SlugService;
+import com.slm.backend.service.TaxonomyService;
+import com.slm.backend.util.ConditionalRequests;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
-import java.text.Normalizer;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Pattern;
 
 @RestController
 @RequestMapping("/tags")
@@ -19,17 +22,24 @@ import java.util.regex.Pattern;
 public class TagController {
 
     private final TagRepository tagRepository;
+    private final ConditionalRequests conditionalRequests;
+    private final SlugService slugService;
+    private final TaxonomyService taxonomyService;
 
+    /**
+     * Served from the in-memory taxonomy snapshot
+     */
     @GetMapping
-    public ResponseEntity<List<Tag>> getAllTags() {
-        List<Tag> tags = tagRepository.findAll();
-        return ResponseEntity.ok(tags);
+    public ResponseEntity<List<TagDto>> getAllTags(WebRequest request) {
+        return conditionalRequests.respond(request, "tags", taxonomyService.getTagsVersion(),
+            taxonomyService::getTags);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Tag> getTagById(@PathVariable Long id) {
-        return tagRepository.findById(id)
-            .map(ResponseEntity::ok)
+    public ResponseEntity<TagDto> getTagById(@PathVariable Long id, WebRequest request) {
+        return taxonomyService.findTag(id)
+            .map(tag -> conditionalRequests.respond(request, "tags",
+                tag.getId() + "/" + tag.getUpdatedAt(), tag.getUpdatedAt(), () -> tag))
             .orElse(ResponseEntity.notFound().build());
     }
 
@@ -48,7 +58,7 @@ public class TagController {
                 .body(Map.of("message", "Tag with this name already exists"));
         }
 
-        String slug = generateSlug(name);
+        String slug = slugService.generateTagSlug(name);
 
         Tag tag = Tag.builder()
             .name(name)
@@ -56,7 +66,8 @@ public class TagController {
             .build();
 
         tag = tagRepository.save(tag);
-        return ResponseEntity.status(HttpStatus.CREATED).body(tag);
+        taxonomyService.tagSaved(tag);
+        return ResponseEntity.status(HttpStatus.CREATED).body(TagDto.fromEntity(tag));
     }
 
     @PatchMapping("/{id}")
@@ -74,11 +85,12 @@ public class TagController {
 
         if (body.containsKey("name")) {
             tag.setName(body.get("name"));
-            tag.setSlug(generateSlug(body.get("name")));
+            tag.setSlug(slugService.generateTagSlug(body.get("name")));
         }
 
         tag = tagRepository.save(tag);
-        return ResponseEntity.ok(tag);
+        taxonomyService.tagSaved(tag);
+        return ResponseEntity.ok(TagDto.fromEntity(tag));
     }
 
     @DeleteMapping("/{id}")
@@ -89,26 +101,7 @@ public class TagController {
         }
 
         tagRepository.deleteById(id);
+        taxonomyService.tagDeleted(id);
         return ResponseEntity.ok(Map.of("message", "Tag deleted successfully"));
     }
-
-    private String generateSlug(String name) {
-        String normalized = Normalizer.normalize(name, Normalizer.Form.NFD);
-        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
-        String slug = pattern.matcher(normalized).replaceAll("");
-
-        slug = slug.toLowerCase()
-            .replaceAll("[^a-z0-9\\s-]", "")
-            .replaceAll("[\\s]+", "-")
-            .replaceAll("-+", "-")
-            .replaceAll("^-|-$", "");
-
-        String baseSlug = slug;
-        int counter = 1;
-        while (tagRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter++;
-        }
-
-        return slug;
-    }
 }
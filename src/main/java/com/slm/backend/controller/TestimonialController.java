@@ -4,12 +4,14 @@ import com.slm.backend.dto.CreateTestimonialRequest;
 import com.slm.backend.dto.TestimonialDto;
 import com.slm.backend.dto.UpdateTestimonialRequest;
 import com.slm.backend.service.TestimonialService;
+import com.slm.backend.util.ConditionalRequests;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -20,6 +22,7 @@ import java.util.Map;
 public class TestimonialController {
 
     private final TestimonialService testimonialService;
+    private final ConditionalRequests conditionalRequests;
 
     /**
      * Get all testimonials with optional status filter
@@ -27,10 +30,11 @@ public class TestimonialController {
      */
     @GetMapping
     public ResponseEntity<List<TestimonialDto>> getAllTestimonials(
-            @RequestParam(required = false, defaultValue = "published") String status
+            @RequestParam(required = false, defaultValue = "published") String status,
+            WebRequest request
     ) {
-        List<TestimonialDto> testimonials = testimonialService.getAllTestimonials(status);
-        return ResponseEntity.ok(testimonials);
+        return conditionalRequests.respond(request, "testimonials", testimonialService.getCollectionVersion(),
+            () -> testimonialService.getAllTestimonials(status));
     }
 
     /**
@@ -38,9 +42,10 @@ public class TestimonialController {
      * Public endpoint
      */
     @GetMapping("/{id}")
-    public ResponseEntity<TestimonialDto> getTestimonialById(@PathVariable Long id) {
+    public ResponseEntity<TestimonialDto> getTestimonialById(@PathVariable Long id, WebRequest request) {
         TestimonialDto testimonial = testimonialService.getTestimonialById(id);
-        return ResponseEntity.ok(testimonial);
+        return conditionalRequests.respond(request, "testimonials",
+            testimonial.getId() + "/" + testimonial.getUpdatedAt(), testimonial.getUpdatedAt(), () -> testimonial);
     }
 
     /**
@@ -1,6 +1,8 @@
 package com.slm.backend.controller;
 
 import com.slm.backend.dto.UserDto;
+import com.slm.backend.dto.UserListResponse;
+import com.slm.backend.dto.UserUpdateResponse;
 import com.slm.backend.entity.User;
 import com.slm.backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -24,7 +26,7 @@ public class UserController {
     private final PasswordEncoder passwordEncoder;
 
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllUsers(
+    public ResponseEntity<UserListResponse> getAllUsers(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
@@ -36,10 +38,10 @@ public class UserController {
         Page<User> userPage = userRepository.findAll(pageable);
         Page<UserDto> userDtoPage = userPage.map(this::mapToDto);
 
-        return ResponseEntity.ok(Map.of(
-            "users", userDtoPage.getContent(),
-            "total", userDtoPage.getTotalElements()
-        ));
+        return ResponseEntity.ok(UserListResponse.builder()
+            .users(userDtoPage.getContent())
+            .total(userDtoPage.getTotalElements())
+            .build());
     }
 
     @GetMapping("/{id}")
@@ -51,7 +53,7 @@ public class UserController {
     }
 
     @PatchMapping("/{id}")
-    public ResponseEntity<Map<String, Object>> updateUser(
+    public ResponseEntity<UserUpdateResponse> updateUser(
             @PathVariable Long id,
             @RequestBody Map<String, Object> updates
     ) {
@@ -70,14 +72,14 @@ public class UserController {
 
         user = userRepository.save(user);
 
-        return ResponseEntity.ok(Map.of(
-            "message", "User updated successfully",
-            "user", mapToDto(user)
-        ));
+        return ResponseEntity.ok(UserUpdateResponse.builder()
+            .message("User updated successfully")
+            .user(mapToDto(user))
+            .build());
     }
 
     @PatchMapping("/{id}/role")
-    public ResponseEntity<Map<String, Object>> updateUserRole(
+    public ResponseEntity<UserUpdateResponse> updateUserRole(
             @PathVariable Long id,
             @RequestBody Map<String, String> body
     ) {
@@ -88,14 +90,14 @@ public class UserController {
         user.setRole(User.Role.valueOf(roleStr.toUpperCase()));
         user = userRepository.save(user);
 
-        return ResponseEntity.ok(Map.of(
-            "message", "User role updated successfully",
-            "user", mapToDto(user)
-        ));
+        return ResponseEntity.ok(UserUpdateResponse.builder()
+            .message("User role updated successfully")
+            .user(mapToDto(user))
+            .build());
     }
 
     @PatchMapping("/{id}/archive")
-    public ResponseEntity<Map<String, Object>> archiveUser(
+    public ResponseEntity<UserUpdateResponse> archiveUser(
             @PathVariable Long id,
             @RequestBody Map<String, Boolean> body
     ) {
@@ -106,10 +108,10 @@ public class UserController {
         user.setIsArchived(isArchived);
         user = userRepository.save(user);
 
-        return ResponseEntity.ok(Map.of(
-            "message", isArchived ? "User archived successfully" : "User unarchived successfully",
-            "user", mapToDto(user)
-        ));
+        return ResponseEntity.ok(UserUpdateResponse.builder()
+            .message(isArchived ? "User archived successfully" : "User unarchived successfully")
+            .user(mapToDto(user))
+            .build());
     }
 
     @DeleteMapping("/{id}")
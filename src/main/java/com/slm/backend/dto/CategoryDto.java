@@ -0,0 +1,34 @@
+package com.slm.backend.dto;
+
+import com.slm.backend.entity.Category;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable, as instances are shared through the taxonomy snapshot.
+ */
+@Value
+@Builder
+public class CategoryDto {
+    Long id;
+    String name;
+    String slug;
+    String description;
+    String color;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    public static CategoryDto fromEntity(Category category) {
+        return CategoryDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .slug(category.getSlug())
+                .description(category.getDescription())
+                .color(category.getColor())
+                .createdAt(category.getCreatedAt())
+                .updatedAt(category.getUpdatedAt())
+                .build();
+    }
+}
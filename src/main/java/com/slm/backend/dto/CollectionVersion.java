@@ -0,0 +1,25 @@
+package com.slm.backend.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Cheap fingerprint of a table used to validate cached list responses:
+ * inserts and deletes change the count, updates move the latest updatedAt.
+ * Versions kept in memory (report lists) count changes instead of rows.
+ */
+@Getter
+public class CollectionVersion {
+    private final long count;
+    private final LocalDateTime lastModified;
+
+    public CollectionVersion(Long count, LocalDateTime lastModified) {
+        this.count = count != null ? count : 0L;
+        this.lastModified = lastModified;
+    }
+
+    public String asVersion() {
+        return count + "/" + lastModified;
+    }
+}
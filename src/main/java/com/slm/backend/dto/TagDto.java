@@ -0,0 +1,30 @@
+package com.slm.backend.dto;
+
+import com.slm.backend.entity.Tag;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Immutable, as instances are shared through the taxonomy snapshot.
+ */
+@Value
+@Builder
+public class TagDto {
+    Long id;
+    String name;
+    String slug;
+    LocalDateTime createdAt;
+    LocalDateTime updatedAt;
+
+    public static TagDto fromEntity(Tag tag) {
+        return TagDto.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .slug(tag.getSlug())
+                .createdAt(tag.getCreatedAt())
+                .updatedAt(tag.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package com.slm.backend.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserListResponse {
+    private List<UserDto> users;
+    private long total;
+}
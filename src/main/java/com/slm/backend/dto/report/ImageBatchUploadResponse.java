@@ -0,0 +1,20 @@
+package com.slm.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Result per file of a batch image upload, in request order.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageBatchUploadResponse {
+    private String message;
+    private List<ImageUploadResult> results;
+}
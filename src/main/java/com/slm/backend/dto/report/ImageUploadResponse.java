@@ -0,0 +1,15 @@
+package com.slm.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadResponse {
+    private String message;
+    private ReportDto.ReportImageDto image;
+}
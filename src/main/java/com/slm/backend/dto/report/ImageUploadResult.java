@@ -0,0 +1,21 @@
+package com.slm.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of one file in a batch image upload.
+ * Either image is set (uploaded) or error explains why the file was rejected.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImageUploadResult {
+    private String filename;
+    private boolean uploaded;
+    private ReportDto.ReportImageDto image;
+    private String error;
+}
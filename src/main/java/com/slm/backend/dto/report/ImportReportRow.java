@@ -0,0 +1,51 @@
+package com.slm.backend.dto.report;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One line of an NDJSON report import. Author, category and tags are referenced by
+ * email and slug so exports from another instance can be imported as they are.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportRow {
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 255, message = "Title must be at most 255 characters")
+    private String title;
+
+    // Kept when free, otherwise made unique like a generated slug
+    private String slug;
+
+    @NotBlank(message = "Excerpt is required")
+    @Size(max = 500, message = "Excerpt must be at most 500 characters")
+    private String excerpt;
+
+    @NotBlank(message = "Content is required")
+    private String content;
+
+    private String status;
+
+    // Defaults to the importing user
+    private String authorEmail;
+
+    private String category;
+
+    private List<String> tags;
+
+    // Defaults to the import time for published reports
+    private LocalDateTime publishedAt;
+
+    @Size(max = 500, message = "Featured image must be at most 500 characters")
+    private String featuredImage;
+}
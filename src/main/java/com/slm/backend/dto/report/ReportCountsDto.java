@@ -0,0 +1,22 @@
+package com.slm.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Published report counts, overall and keyed by category id and tag id.
+ * Categories and tags without published reports are left out.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportCountsDto {
+    private long published;
+    private Map<Long, Long> categories;
+    private Map<Long, Long> tags;
+}
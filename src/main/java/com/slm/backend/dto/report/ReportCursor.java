@@ -0,0 +1,65 @@
+package com.slm.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Position of a row in a keyset-paginated report list.
+ * Holds the sort field, the row's value for that field and its id (the tie-breaker),
+ * and is exchanged with clients as an opaque URL-safe token.
+ */
+@Getter
+@AllArgsConstructor
+public class ReportCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final String sortField;
+    private final Long id;
+    private final String value;
+
+    /**
+     * Encodes the cursor as an opaque token.
+     * Format before encoding: {sortField}|{id}|{value}
+     */
+    public String encode() {
+        String raw = sortField + SEPARATOR + id + SEPARATOR + value;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a token produced by {@link #encode()}.
+     * Throws IllegalArgumentException if the token is malformed or its value does not fit
+     * the sort field, so a tampered token is a bad request rather than a failed query.
+     */
+    public static ReportCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|", 3);
+            if (parts.length != 3) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            ReportCursor cursor = new ReportCursor(parts[0], Long.parseLong(parts[1]), parts[2]);
+            cursor.checkValue();
+            return cursor;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // Also covers NumberFormatException and bad Base64 input
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private void checkValue() {
+        switch (sortField) {
+            case "createdAt", "updatedAt" -> LocalDateTime.parse(value);
+            case "viewCount" -> Long.parseLong(value);
+            default -> {
+                // Strings and ids need no parsing; unknown fields are rejected with the sort field
+            }
+        }
+    }
+}
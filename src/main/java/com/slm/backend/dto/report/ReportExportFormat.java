@@ -0,0 +1,43 @@
+package com.slm.backend.dto.report;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * File format of a report export.
+ */
+public enum ReportExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ReportExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * Parse the format request parameter. Null or empty means NDJSON.
+     */
+    public static ReportExportFormat parse(String format) {
+        if (format == null || format.isEmpty()) {
+            return NDJSON;
+        }
+        try {
+            return ReportExportFormat.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid format: " + format + " (expected ndjson or csv)");
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.slm.backend.dto.report;
+
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * One report of an export. Uses the field names of ImportReportRow, so an NDJSON export
+ * can be imported again; id, viewCount and the timestamps are informational.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonPropertyOrder({"id", "title", "slug", "excerpt", "content", "status", "authorEmail", "category", "tags",
+    "publishedAt", "featuredImage", "viewCount", "createdAt", "updatedAt"})
+public class ReportExportRow {
+    private Long id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private String content;
+    private String status;
+    private String authorEmail;
+    private String category;
+    private List<String> tags;
+    private LocalDateTime publishedAt;
+    private String featuredImage;
+    private Long viewCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
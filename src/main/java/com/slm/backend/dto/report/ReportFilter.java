@@ -0,0 +1,27 @@
+package com.slm.backend.dto.report;
+
+import com.slm.backend.entity.Report;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Filter criteria shared by the report list queries.
+ * Null fields are not applied.
+ */
+@Getter
+@Builder
+public class ReportFilter {
+    private Report.Status status;
+    private Long categoryId;
+    private Long authorId;
+    // Restricts the results to these ids, e.g. the matches of a full-text search
+    private List<Long> ids;
+    private List<Long> tagIds;
+    // How several tagIds combine; null means ANY
+    private TagMatch tagMatch;
+    private LocalDateTime dateFrom;
+    private LocalDateTime dateTo;
+}
@@ -0,0 +1,38 @@
+package com.slm.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Outcome of a report import. Errors are listed per input line, up to a configured
+ * maximum (errorsTruncated tells whether more rows failed than are listed).
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportImportResult {
+    private int total;
+    private int imported;
+    private int failed;
+
+    @Builder.Default
+    private List<RowError> errors = new ArrayList<>();
+
+    private boolean errorsTruncated;
+    private long durationMs;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;
+        private String message;
+    }
+}
@@ -1,20 +1,33 @@
 package com.slm.backend.dto.report;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
+/**
+ * Paged report list. T is ReportDto or ReportSummaryDto depending on the requested view.
+ */
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ReportListResponse {
-    private List<ReportDto> reports;
-    private long total;
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ReportListResponse<T> {
+    private List<T> reports;
+    private Long total;
     private int page;
     private int pageSize;
-    private int totalPages;
+    private Integer totalPages;
+
+    // Cursor pagination only: token for the next page, null on the last page
+    private String nextCursor;
+    private Boolean hasMore;
+
+    // Search only: highlighted title or snippet per report id, matches wrapped in <mark>
+    private Map<Long, String> highlights;
 }
@@ -0,0 +1,34 @@
+package com.slm.backend.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Lightweight list representation of a report.
+ * Selected as a scalar projection, so the content column and the images
+ * collection are never loaded.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportSummaryDto {
+    private Long id;
+    private String title;
+    private String slug;
+    private String excerpt;
+    private LocalDateTime publishedAt;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private String status;
+    private ReportDto.AuthorDto author;
+    private ReportDto.CategoryDto category;
+    private Long viewCount;
+    private String featuredImage;
+    private Long featuredImageId;
+    private String thumbnailUrl;
+}
@@ -0,0 +1,23 @@
+package com.slm.backend.dto.report;
+
+/**
+ * Representation used for report list responses.
+ */
+public enum ReportView {
+    FULL,
+    SUMMARY;
+
+    /**
+     * Parse the view request parameter. Null or empty means FULL.
+     */
+    public static ReportView parse(String view) {
+        if (view == null || view.isEmpty()) {
+            return FULL;
+        }
+        try {
+            return ReportView.valueOf(view.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid view: " + view + " (expected summary or full)");
+        }
+    }
+}
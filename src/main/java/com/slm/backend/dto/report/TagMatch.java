@@ -0,0 +1,25 @@
+package com.slm.backend.dto.report;
+
+/**
+ * How a tag filter with several tags is applied to reports.
+ */
+public enum TagMatch {
+    // Reports having at least one of the tags
+    ANY,
+    // Reports having every one of the tags
+    ALL;
+
+    /**
+     * Parse the tagMatch request parameter. Null or empty means ANY.
+     */
+    public static TagMatch parse(String tagMatch) {
+        if (tagMatch == null || tagMatch.isEmpty()) {
+            return ANY;
+        }
+        try {
+            return TagMatch.valueOf(tagMatch.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid tagMatch: " + tagMatch + " (expected any or all)");
+        }
+    }
+}
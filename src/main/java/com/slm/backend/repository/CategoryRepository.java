@@ -2,8 +2,11 @@ package com.slm.backend.repository;
 
 import com.slm.backend.entity.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -11,7 +14,11 @@ public interface CategoryRepository extends JpaRepository<Category, Long> {
 
     Optional<Category> findBySlug(String slug);
 
-    boolean existsBySlug(String slug);
+    /**
+     * Slugs taken by the given base slug and its variants (base-1, base-2, ...).
+     */
+    @Query("SELECT c.slug FROM Category c WHERE c.slug LIKE CONCAT(:slug, '%')")
+    List<String> findSlugsStartingWith(@Param("slug") String slug);
 
     boolean existsByName(String name);
 }
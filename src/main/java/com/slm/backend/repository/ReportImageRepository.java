@@ -2,8 +2,12 @@ package com.slm.backend.repository;
 
 import com.slm.backend.entity.ReportImage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -11,5 +15,14 @@ public interface ReportImageRepository extends JpaRepository<ReportImage, Long>
 
     List<ReportImage> findByReportIdOrderByDisplayOrderAsc(Long reportId);
 
+    List<ReportImage> findByReportIdInOrderByDisplayOrderAsc(Collection<Long> reportIds);
+
     void deleteByReportId(Long reportId);
+
+    @Query("SELECT COALESCE(MAX(i.displayOrder), -1) FROM ReportImage i WHERE i.report.id = :reportId")
+    int findMaxDisplayOrder(@Param("reportId") Long reportId);
+
+    @Modifying
+    @Query("UPDATE ReportImage i SET i.thumbnailUrl = :thumbnailUrl WHERE i.id = :id")
+    int updateThumbnailUrl(@Param("id") Long id, @Param("thumbnailUrl") String thumbnailUrl);
 }
@@ -4,19 +4,31 @@ import com.slm.backend.entity.Report;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ReportRepository extends JpaRepository<Report, Long> {
+public interface ReportRepository extends JpaRepository<Report, Long>, ReportRepositoryCustom {
 
     Optional<Report> findBySlug(String slug);
 
-    boolean existsBySlug(String slug);
+    @Query("SELECT r.id FROM Report r WHERE r.slug = :slug")
+    Optional<Long> findIdBySlug(@Param("slug") String slug);
+
+    /**
+     * Slugs taken by the given base slug and its variants (base-1, base-2, ...).
+     */
+    @Query("SELECT r.slug FROM Report r WHERE r.slug LIKE CONCAT(:slug, '%')")
+    List<String> findSlugsStartingWith(@Param("slug") String slug);
+
+    @Query("SELECT r.slug FROM Report r")
+    List<String> findAllSlugs();
 
     Page<Report> findByStatus(Report.Status status, Pageable pageable);
 
@@ -24,29 +36,63 @@ public interface ReportRepository extends JpaRepository<Report, Long> {
 
     Page<Report> findByCategoryId(Long categoryId, Pageable pageable);
 
-    @Query("SELECT r FROM Report r WHERE r.status = :status ORDER BY r.publishedAt DESC")
-    List<Report> findLatestPublished(@Param("status") Report.Status status, Pageable pageable);
-
-    @Query("SELECT DISTINCT r FROM Report r LEFT JOIN r.tags t WHERE " +
-           "(:status IS NULL OR r.status = :status) AND " +
-           "(:categoryId IS NULL OR r.category.id = :categoryId) AND " +
-           "(:authorId IS NULL OR r.author.id = :authorId) AND " +
-           "(:search IS NULL OR LOWER(r.title) LIKE LOWER(CONCAT('%', :search, '%')) OR " +
-           "LOWER(r.excerpt) LIKE LOWER(CONCAT('%', :search, '%'))) AND " +
-           "(:tagIds IS NULL OR t.id IN :tagIds) AND " +
-           "(:dateFrom IS NULL OR r.createdAt >= :dateFrom) AND " +
-           "(:dateTo IS NULL OR r.createdAt <= :dateTo)")
-    Page<Report> findWithFilters(
-        @Param("status") Report.Status status,
-        @Param("categoryId") Long categoryId,
-        @Param("authorId") Long authorId,
-        @Param("search") String search,
-        @Param("tagIds") List<Long> tagIds,
-        @Param("dateFrom") java.time.LocalDateTime dateFrom,
-        @Param("dateTo") java.time.LocalDateTime dateTo,
-        Pageable pageable
-    );
+    @Query("SELECT r.id FROM Report r WHERE r.status = :status ORDER BY r.publishedAt DESC")
+    List<Long> findLatestPublishedIds(@Param("status") Report.Status status, Pageable pageable);
+
+    /**
+     * Hydrates a page of reports with their to-one associations in a single query.
+     */
+    @Query("SELECT r FROM Report r JOIN FETCH r.author LEFT JOIN FETCH r.category WHERE r.id IN :ids")
+    List<Report> findAllWithAuthorAndCategoryByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns [reportId, Tag] pairs for the given reports.
+     */
+    @Query("SELECT r.id, t FROM Report r JOIN r.tags t WHERE r.id IN :ids")
+    List<Object[]> findTagsByReportIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns [reportId, tag slug] pairs for the given reports.
+     */
+    @Query("SELECT r.id, t.slug FROM Report r JOIN r.tags t WHERE r.id IN :ids")
+    List<Object[]> findTagSlugsByReportIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Returns [id, title, excerpt, content] rows in id order, for (re)building the search index.
+     */
+    @Query("SELECT r.id, r.title, r.excerpt, r.content FROM Report r WHERE r.id > :afterId ORDER BY r.id")
+    List<Object[]> findSearchDocumentsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * Returns [id, title, excerpt, content] rows of reports updated after the given time,
+     * for refreshing the search index with changes made by other instances.
+     */
+    @Query("SELECT r.id, r.title, r.excerpt, r.content FROM Report r WHERE r.updatedAt > :since")
+    List<Object[]> findSearchDocumentsUpdatedAfter(@Param("since") java.time.LocalDateTime since);
+
+    @Query("SELECT r.id FROM Report r")
+    List<Long> findAllIds();
+
+    /**
+     * Bump updatedAt for changes made outside the entity, e.g. generated image thumbnails.
+     */
+    @Modifying
+    @Query("UPDATE Report r SET r.updatedAt = :updatedAt WHERE r.id = :id")
+    int touch(@Param("id") Long id, @Param("updatedAt") java.time.LocalDateTime updatedAt);
 
     @Query("SELECT COUNT(r) FROM Report r WHERE r.status = :status")
     long countByStatus(@Param("status") Report.Status status);
+
+    /**
+     * Returns [categoryId, count] pairs of the reports with the given status.
+     */
+    @Query("SELECT r.category.id, COUNT(r) FROM Report r WHERE r.status = :status AND r.category IS NOT NULL "
+        + "GROUP BY r.category.id")
+    List<Object[]> countByCategoryWithStatus(@Param("status") Report.Status status);
+
+    /**
+     * Returns [tagId, count] pairs of the reports with the given status.
+     */
+    @Query("SELECT t.id, COUNT(r) FROM Report r JOIN r.tags t WHERE r.status = :status GROUP BY t.id")
+    List<Object[]> countByTagWithStatus(@Param("status") Report.Status status);
 }
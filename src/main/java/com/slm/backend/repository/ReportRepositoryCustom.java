@@ -0,0 +1,62 @@
+package com.slm.backend.repository;
+
+import com.slm.backend.dto.CollectionVersion;
+import com.slm.backend.dto.report.ReportCursor;
+import com.slm.backend.dto.report.ReportExportRow;
+import com.slm.backend.dto.report.ReportFilter;
+import com.slm.backend.dto.report.ReportSummaryDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface ReportRepositoryCustom {
+
+    /**
+     * Fields the report lists can be sorted by. Cursor pagination needs a non-null column,
+     * so it accepts all of them except publishedAt.
+     */
+    Set<String> SORT_FIELDS = Set.of("createdAt", "publishedAt", "updatedAt", "title", "viewCount", "id");
+    Set<String> KEYSET_SORT_FIELDS = Set.of("createdAt", "updatedAt", "title", "viewCount", "id");
+
+    /**
+     * Offset pagination over report ids only; entities are hydrated separately by the caller.
+     */
+    Page<Long> findIdsWithFilters(ReportFilter filter, Pageable pageable);
+
+    /**
+     * All ids matching the filter, unordered. Only meant for filters already bounded by an id list.
+     */
+    List<Long> findIdsWithFilters(ReportFilter filter);
+
+    /**
+     * Keyset (seek) pagination: returns the keys of up to {@code limit} reports that follow
+     * {@code after} in ({@code sortField}, id) order. Pass a null cursor for the first page.
+     */
+    List<ReportCursor> findKeysAfter(ReportFilter filter, String sortField, Sort.Direction direction,
+                                     ReportCursor after, int limit);
+
+    long countWithFilters(ReportFilter filter);
+
+    /**
+     * Version of the report lists: report count and the latest updatedAt across reports
+     * and the categories and tags embedded in them. Only checked periodically, see ReportListVersion.
+     */
+    CollectionVersion findCollectionVersion();
+
+    /**
+     * Summary projections for the given ids, in the same order.
+     * Reads only scalar columns (never content) plus one query for the preview images.
+     */
+    List<ReportSummaryDto> findSummariesByIdIn(List<Long> ids);
+
+    /**
+     * Export rows (without tags) of every report matching the filter, in id order.
+     * Scalar columns only, read through a forward-only cursor fetching {@code fetchSize}
+     * rows at a time; the stream must be closed and consumed inside a transaction.
+     */
+    Stream<ReportExportRow> streamForExport(ReportFilter filter, int fetchSize);
+}
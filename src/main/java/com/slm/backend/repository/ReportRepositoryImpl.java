@@ -0,0 +1,474 @@
+package com.slm.backend.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.ComparableExpression;
+import com.querydsl.core.types.dsl.ComparableExpressionBase;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.jpa.JPAExpressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.slm.backend.dto.CollectionVersion;
+import com.slm.backend.dto.report.ReportCursor;
+import com.slm.backend.dto.report.ReportDto;
+import com.slm.backend.dto.report.ReportExportRow;
+import com.slm.backend.dto.report.ReportFilter;
+import com.slm.backend.dto.report.ReportSummaryDto;
+import com.slm.backend.dto.report.TagMatch;
+import com.slm.backend.entity.QCategory;
+import com.slm.backend.entity.QReport;
+import com.slm.backend.entity.QReportImage;
+import com.slm.backend.entity.QTag;
+import com.slm.backend.entity.QUser;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+@Repository
+@RequiredArgsConstructor
+public class ReportRepositoryImpl implements ReportRepositoryCustom {
+
+    private static final QReport report = QReport.report;
+
+    // Larger id filters (broad search hits) are not sent as one IN list: list queries keep the
+    // filter ids among their results, exports query them in chunks of this size
+    private static final int MAX_IN_LIST_IDS = 1000;
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public Page<Long> findIdsWithFilters(ReportFilter filter, Pageable pageable) {
+        JPAQuery<Long> query = queryFactory
+            .select(report.id)
+            .from(report)
+            .where(filterPredicate(filter));
+
+        pageable.getSort().forEach(order -> {
+            ComparableExpressionBase<?> sortPath = sortPath(order.getProperty());
+            query.orderBy(order.isAscending() ? sortPath.asc() : sortPath.desc());
+        });
+        // Tie-breaker, so rows with equal sort values do not move between pages
+        if (pageable.getSort().getOrderFor("id") == null) {
+            query.orderBy(report.id.asc());
+        }
+
+        if (filtersIdsInMemory(filter)) {
+            List<Long> matching = retainFilterIds(filter, query.fetch());
+            int from = (int) Math.min(pageable.getOffset(), matching.size());
+            List<Long> ids = matching.subList(from, Math.min(from + pageable.getPageSize(), matching.size()));
+            return new PageImpl<>(ids, pageable, matching.size());
+        }
+
+        List<Long> ids = query
+            .offset(pageable.getOffset())
+            .limit(pageable.getPageSize())
+            .fetch();
+
+        // The count is skipped when the page itself tells the total (first or last page)
+        return PageableExecutionUtils.getPage(ids, pageable, () -> countWithFilters(filter));
+    }
+
+    @Override
+    public List<Long> findIdsWithFilters(ReportFilter filter) {
+        List<Long> ids = queryFactory
+            .select(report.id)
+            .from(report)
+            .where(filterPredicate(filter))
+            .fetch();
+        return filtersIdsInMemory(filter) ? retainFilterIds(filter, ids) : ids;
+    }
+
+    @Override
+    public List<ReportCursor> findKeysAfter(ReportFilter filter, String sortField, Sort.Direction direction,
+                                            ReportCursor after, int limit) {
+        if (!filtersIdsInMemory(filter)) {
+            return fetchKeysAfter(filter, sortField, direction, after, limit);
+        }
+
+        // Seek through the other filters' matches in batches until the page is filled with filter ids
+        Set<Long> ids = new HashSet<>(filter.getIds());
+        int batchSize = Math.max(limit, MAX_IN_LIST_IDS);
+        List<ReportCursor> keys = new ArrayList<>(limit);
+        List<ReportCursor> batch;
+        do {
+            batch = fetchKeysAfter(filter, sortField, direction, after, batchSize);
+            for (ReportCursor key : batch) {
+                if (ids.contains(key.getId()) && keys.size() < limit) {
+                    keys.add(key);
+                }
+            }
+            if (!batch.isEmpty()) {
+                after = batch.get(batch.size() - 1);
+            }
+        } while (keys.size() < limit && batch.size() == batchSize);
+        return keys;
+    }
+
+    private List<ReportCursor> fetchKeysAfter(ReportFilter filter, String sortField, Sort.Direction direction,
+                                              ReportCursor after, int limit) {
+        ComparableExpressionBase<?> sortPath = keysetPath(sortField);
+
+        BooleanBuilder builder = filterPredicate(filter);
+        if (after != null) {
+            builder.and(seekPredicate(sortField, direction, after));
+        }
+
+        List<Tuple> rows = queryFactory
+            .select(report.id, sortPath)
+            .from(report)
+            .where(builder)
+            .orderBy(
+                direction.isAscending() ? sortPath.asc() : sortPath.desc(),
+                direction.isAscending() ? report.id.asc() : report.id.desc()
+            )
+            .limit(limit)
+            .fetch();
+
+        return rows.stream()
+            .map(row -> new ReportCursor(sortField, row.get(report.id), String.valueOf(row.get(sortPath))))
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public long countWithFilters(ReportFilter filter) {
+        if (filtersIdsInMemory(filter)) {
+            return findIdsWithFilters(filter).size();
+        }
+        Long total = queryFactory
+            .select(report.count())
+            .from(report)
+            .where(filterPredicate(filter))
+            .fetchOne();
+        return total != null ? total : 0L;
+    }
+
+    @Override
+    public CollectionVersion findCollectionVersion() {
+        QCategory category = QCategory.category;
+        QTag tag = QTag.tag;
+
+        Tuple row = queryFactory
+            .select(
+                report.count(),
+                report.updatedAt.max(),
+                JPAExpressions.select(category.updatedAt.max()).from(category),
+                JPAExpressions.select(tag.updatedAt.max()).from(tag)
+            )
+            .from(report)
+            .fetchOne();
+
+        LocalDateTime lastModified = Stream.of(row.get(1, LocalDateTime.class), row.get(2, LocalDateTime.class),
+                row.get(3, LocalDateTime.class))
+            .filter(Objects::nonNull)
+            .max(Comparator.naturalOrder())
+            .orElse(null);
+
+        return new CollectionVersion(row.get(0, Long.class), lastModified);
+    }
+
+    @Override
+    public List<ReportSummaryDto> findSummariesByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        QUser author = QUser.user;
+        QCategory category = QCategory.category;
+
+        List<Tuple> rows = queryFactory
+            .select(
+                report.id, report.title, report.slug, report.excerpt,
+                report.publishedAt, report.createdAt, report.updatedAt, report.status,
+                report.viewCount, report.featuredImage, report.featuredImageId,
+                author.id, author.name, author.email,
+                category.id, category.name, category.slug, category.description, category.color
+            )
+            .from(report)
+            .join(report.author, author)
+            .leftJoin(report.category, category)
+            .where(report.id.in(ids))
+            .fetch();
+
+        List<Long> featuredImageIds = rows.stream()
+            .map(row -> row.get(report.featuredImageId))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        Map<Long, List<Tuple>> imagesByReportId = findPreviewImages(ids, featuredImageIds);
+
+        Map<Long, ReportSummaryDto> summariesById = new HashMap<>();
+        for (Tuple row : rows) {
+            Long id = row.get(report.id);
+
+            // Same resolution order as the full DTO: explicit URL, featured image id, first image
+            Long featuredImageId = row.get(report.featuredImageId);
+            List<Tuple> images = imagesByReportId.getOrDefault(id, List.of());
+            Tuple preview = images.stream()
+                .filter(image -> featuredImageId != null && featuredImageId.equals(image.get(QReportImage.reportImage.id)))
+                .findFirst()
+                .orElse(row.get(report.featuredImage) == null && !images.isEmpty() ? images.get(0) : null);
+
+            String featuredImage = row.get(report.featuredImage);
+            if (featuredImage == null && preview != null) {
+                featuredImage = preview.get(QReportImage.reportImage.url);
+            }
+
+            ReportDto.CategoryDto categoryDto = null;
+            if (row.get(category.id) != null) {
+                categoryDto = ReportDto.CategoryDto.builder()
+                    .id(row.get(category.id))
+                    .name(row.get(category.name))
+                    .slug(row.get(category.slug))
+                    .description(row.get(category.description))
+                    .color(row.get(category.color))
+                    .build();
+            }
+
+            summariesById.put(id, ReportSummaryDto.builder()
+                .id(id)
+                .title(row.get(report.title))
+                .slug(row.get(report.slug))
+                .excerpt(row.get(report.excerpt))
+                .publishedAt(row.get(report.publishedAt))
+                .createdAt(row.get(report.createdAt))
+                .updatedAt(row.get(report.updatedAt))
+                .status(row.get(report.status).name().toLowerCase())
+                .author(ReportDto.AuthorDto.builder()
+                    .id(row.get(author.id))
+                    .name(row.get(author.name))
+                    .email(row.get(author.email))
+                    .build())
+                .category(categoryDto)
+                .viewCount(row.get(report.viewCount))
+                .featuredImage(featuredImage)
+                .featuredImageId(featuredImageId)
+                .thumbnailUrl(preview != null ? preview.get(QReportImage.reportImage.thumbnailUrl) : null)
+                .build());
+        }
+
+        return ids.stream()
+            .map(summariesById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    @Override
+    public Stream<ReportExportRow> streamForExport(ReportFilter filter, int fetchSize) {
+        if (!filtersIdsInMemory(filter)) {
+            return streamExportRows(filterPredicate(filter), fetchSize);
+        }
+
+        // One IN query per chunk of sorted ids keeps the rows in id order
+        List<Long> ids = filter.getIds().stream().distinct().sorted().collect(Collectors.toList());
+        BooleanBuilder otherFilters = filterPredicate(filter);
+        return IntStream.range(0, (ids.size() + MAX_IN_LIST_IDS - 1) / MAX_IN_LIST_IDS)
+            .mapToObj(chunk -> ids.subList(chunk * MAX_IN_LIST_IDS, Math.min((chunk + 1) * MAX_IN_LIST_IDS, ids.size())))
+            .flatMap(chunk -> streamExportRows(new BooleanBuilder(otherFilters).and(report.id.in(chunk)), fetchSize));
+    }
+
+    private Stream<ReportExportRow> streamExportRows(Predicate where, int fetchSize) {
+        QUser author = QUser.user;
+        QCategory category = QCategory.category;
+
+        return queryFactory
+            .select(
+                report.id, report.title, report.slug, report.excerpt, report.content, report.status,
+                report.publishedAt, report.featuredImage, report.viewCount, report.createdAt, report.updatedAt,
+                author.email, category.slug
+            )
+            .from(report)
+            .join(report.author, author)
+            .leftJoin(report.category, category)
+            .where(where)
+            .orderBy(report.id.asc())
+            .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+            .setHint(HibernateHints.HINT_READ_ONLY, true)
+            .stream()
+            .map(row -> ReportExportRow.builder()
+                .id(row.get(report.id))
+                .title(row.get(report.title))
+                .slug(row.get(report.slug))
+                .excerpt(row.get(report.excerpt))
+                .content(row.get(report.content))
+                .status(row.get(report.status).name().toLowerCase())
+                .authorEmail(row.get(author.email))
+                .category(row.get(category.slug))
+                .publishedAt(row.get(report.publishedAt))
+                .featuredImage(row.get(report.featuredImage))
+                .viewCount(row.get(report.viewCount))
+                .createdAt(row.get(report.createdAt))
+                .updatedAt(row.get(report.updatedAt))
+                .build());
+    }
+
+    /**
+     * Preview candidates (id, url, thumbnailUrl) per report, in display order: the featured
+     * images and each report's first images by display order, not the whole gallery.
+     */
+    private Map<Long, List<Tuple>> findPreviewImages(List<Long> reportIds, List<Long> featuredImageIds) {
+        QReportImage image = QReportImage.reportImage;
+        QReportImage first = new QReportImage("first");
+
+        // A (report_id, display_order) index lookup per report; ties are ordered by id below
+        BooleanExpression candidate = image.displayOrder.eq(JPAExpressions
+            .select(first.displayOrder.min())
+            .from(first)
+            .where(first.report.id.eq(image.report.id)));
+        if (!featuredImageIds.isEmpty()) {
+            candidate = candidate.or(image.id.in(featuredImageIds));
+        }
+
+        return queryFactory
+            .select(image.report.id, image.id, image.url, image.thumbnailUrl)
+            .from(image)
+            .where(image.report.id.in(reportIds), candidate)
+            .orderBy(image.displayOrder.asc(), image.id.asc())
+            .fetch()
+            .stream()
+            .collect(Collectors.groupingBy(row -> row.get(image.report.id)));
+    }
+
+    private BooleanBuilder filterPredicate(ReportFilter filter) {
+        BooleanBuilder builder = new BooleanBuilder();
+
+        if (filter.getStatus() != null) {
+            builder.and(report.status.eq(filter.getStatus()));
+        }
+
+        if (filter.getCategoryId() != null) {
+            builder.and(report.category.id.eq(filter.getCategoryId()));
+        }
+
+        if (filter.getAuthorId() != null) {
+            builder.and(report.author.id.eq(filter.getAuthorId()));
+        }
+
+        if (filter.getIds() != null && !filtersIdsInMemory(filter)) {
+            builder.and(report.id.in(filter.getIds()));
+        }
+
+        if (filter.getTagIds() != null && !filter.getTagIds().isEmpty()) {
+            builder.and(filter.getTagMatch() == TagMatch.ALL
+                ? hasAllTags(filter.getTagIds())
+                : hasAnyTag(filter.getTagIds()));
+        }
+
+        if (filter.getDateFrom() != null) {
+            builder.and(report.createdAt.goe(filter.getDateFrom()));
+        }
+
+        if (filter.getDateTo() != null) {
+            builder.and(report.createdAt.loe(filter.getDateTo()));
+        }
+
+        return builder;
+    }
+
+    private static boolean filtersIdsInMemory(ReportFilter filter) {
+        return filter.getIds() != null && filter.getIds().size() > MAX_IN_LIST_IDS;
+    }
+
+    /**
+     * The given ids that are among the filter ids, in their given order.
+     */
+    private static List<Long> retainFilterIds(ReportFilter filter, List<Long> ids) {
+        Set<Long> filterIds = new HashSet<>(filter.getIds());
+        return ids.stream().filter(filterIds::contains).collect(Collectors.toList());
+    }
+
+    /**
+     * Semi-join: rendered as an EXISTS subquery on report_tags, so no DISTINCT is needed
+     * on the outer query.
+     */
+    private BooleanExpression hasAnyTag(List<Long> tagIds) {
+        return report.tags.any().id.in(tagIds);
+    }
+
+    /**
+     * One EXISTS per tag, each a (report_id, tag_id) key lookup. A single GROUP BY / HAVING
+     * COUNT(DISTINCT tag_id) = n subquery was measured as well (ReportTagFilterBenchmark);
+     * H2 re-evaluates it for every report, so its cost grows with the square of the table.
+     */
+    private BooleanExpression hasAllTags(List<Long> tagIds) {
+        BooleanExpression all = null;
+        for (Long tagId : new LinkedHashSet<>(tagIds)) {
+            BooleanExpression hasTag = report.tags.any().id.eq(tagId);
+            all = all == null ? hasTag : all.and(hasTag);
+        }
+        return all;
+    }
+
+    /**
+     * Columns behind SORT_FIELDS. Anything else (nested paths, the content column) is rejected
+     * rather than turned into a join or a sort over large rows.
+     */
+    private ComparableExpressionBase<?> sortPath(String sortField) {
+        return switch (sortField) {
+            case "createdAt" -> report.createdAt;
+            case "publishedAt" -> report.publishedAt;
+            case "updatedAt" -> report.updatedAt;
+            case "title" -> report.title;
+            case "viewCount" -> report.viewCount;
+            case "id" -> report.id;
+            default -> throw new IllegalArgumentException("Unsupported sort field: " + sortField);
+        };
+    }
+
+    private ComparableExpressionBase<?> keysetPath(String sortField) {
+        if (!KEYSET_SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Unsupported sort field for cursor pagination: " + sortField);
+        }
+        return sortPath(sortField);
+    }
+
+    private BooleanExpression seekPredicate(String sortField, Sort.Direction direction, ReportCursor after) {
+        try {
+            return switch (sortField) {
+                case "createdAt" -> seek(report.createdAt, LocalDateTime.parse(after.getValue()), direction, after.getId());
+                case "updatedAt" -> seek(report.updatedAt, LocalDateTime.parse(after.getValue()), direction, after.getId());
+                case "title" -> seek(report.title, after.getValue(), direction, after.getId());
+                case "viewCount" -> seek(report.viewCount, Long.parseLong(after.getValue()), direction, after.getId());
+                case "id" -> direction.isAscending() ? report.id.gt(after.getId()) : report.id.lt(after.getId());
+                default -> throw new IllegalArgumentException("Unsupported sort field for cursor pagination: " + sortField);
+            };
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    private <T extends Comparable<?>> BooleanExpression seek(ComparableExpression<T> path, T value,
+                                                             Sort.Direction direction, Long id) {
+        if (direction.isAscending()) {
+            return path.gt(value).or(path.eq(value).and(report.id.gt(id)));
+        }
+        return path.lt(value).or(path.eq(value).and(report.id.lt(id)));
+    }
+
+    private BooleanExpression seek(NumberPath<Long> path, Long value, Sort.Direction direction, Long id) {
+        if (direction.isAscending()) {
+            return path.gt(value).or(path.eq(value).and(report.id.gt(id)));
+        }
+        return path.lt(value).or(path.eq(value).and(report.id.lt(id)));
+    }
+}
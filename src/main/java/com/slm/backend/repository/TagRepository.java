@@ -2,20 +2,23 @@ package com.slm.backend.repository;
 
 import com.slm.backend.entity.Tag;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
     Optional<Tag> findBySlug(String slug);
 
-    boolean existsBySlug(String slug);
+    /**
+     * Slugs taken by the given base slug and its variants (base-1, base-2, ...).
+     */
+    @Query("SELECT t.slug FROM Tag t WHERE t.slug LIKE CONCAT(:slug, '%')")
+    List<String> findSlugsStartingWith(@Param("slug") String slug);
 
     boolean existsByName(String name);
-
-    List<Tag> findByIdIn(Set<Long> ids);
 }
@@ -1,8 +1,10 @@
 package com.slm.backend.repository;
 
+import com.slm.backend.dto.CollectionVersion;
 import com.slm.backend.entity.Testimonial;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -15,4 +17,7 @@ public interface TestimonialRepository extends JpaRepository<Testimonial, Long>
     List<Testimonial> findAllByOrderByDisplayOrderAsc();
 
     List<Testimonial> findByStatusOrderByDisplayOrderAsc(Testimonial.Status status);
+
+    @Query("SELECT new com.slm.backend.dto.CollectionVersion(COUNT(t), MAX(t.updatedAt)) FROM Testimonial t")
+    CollectionVersion findCollectionVersion();
 }
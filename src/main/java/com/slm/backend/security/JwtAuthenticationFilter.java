@@ -1,6 +1,7 @@
 package com.slm.backend.security;
 
 import com.slm.backend.util.JwtUtil;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -35,12 +36,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            final String token = authHeader.substring(7);
-            final String email = jwtUtil.extractEmail(token);
-            final String role = jwtUtil.extractRole(token);
+            if (SecurityContextHolder.getContext().getAuthentication() == null) {
+                // One verification per token while cached, instead of one parse per claim
+                final Claims claims = jwtUtil.verifyToken(authHeader.substring(7));
+                final String email = claims.getSubject();
+                final String role = claims.get("role", String.class);
 
-            if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                if (jwtUtil.validateToken(token, email)) {
+                if (email != null) {
                     List<SimpleGrantedAuthority> authorities = List.of(
                             new SimpleGrantedAuthority("ROLE_" + role)
                     );
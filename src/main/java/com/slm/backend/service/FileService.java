@@ -0,0 +1,294 @@
+package com.slm.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.slm.backend.config.HttpCacheProperties;
+import com.slm.backend.config.UploadProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Serves uploaded files. On Tomcat the body is handed to the connector's sendfile
+ * support (FileChannel.transferTo to the socket, no copy through the JVM heap);
+ * elsewhere it is streamed in 64 KB positional reads. Supports single byte ranges and conditional
+ * requests (ETag / If-Modified-Since), and caches file metadata so a request costs
+ * no filesystem calls besides opening the file. ImageService evicts the metadata of
+ * files it deletes or moves; since Tomcat opens a sendfile body only after the headers
+ * are sent, that path checks the file still matches its cached metadata first.
+ */
+@Service
+public class FileService {
+
+    // Tomcat request attributes for handing the response body to the connector (NIO sendfile)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    // Chunk size for streaming when sendfile is not available
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    private static final Pattern SINGLE_RANGE = Pattern.compile("^bytes=(\\d*)-(\\d*)$");
+
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "png", "image/png",
+        "jpg", "image/jpeg",
+        "jpeg", "image/jpeg",
+        "gif", "image/gif",
+        "webp", "image/webp",
+        "svg", "image/svg+xml"
+    );
+
+    private final Path basePath;
+    private final HttpCacheProperties httpCacheProperties;
+    private final Cache<Path, FileMetadata> metadataCache;
+    private final Counter sentFiles;
+    private final Counter notModifiedFiles;
+    private final Counter missingFiles;
+    private final Counter sentBytes;
+
+    public FileService(UploadProperties uploadProperties, HttpCacheProperties httpCacheProperties,
+                       MeterRegistry meterRegistry) {
+        this.basePath = uploadProperties.getUploadPath().toAbsolutePath().normalize();
+        this.httpCacheProperties = httpCacheProperties;
+        this.metadataCache = Caffeine.newBuilder()
+            .maximumSize(uploadProperties.getMetadataCacheSize())
+            .expireAfterWrite(uploadProperties.getMetadataCacheTtl())
+            .build();
+
+        this.sentFiles = servedCounter(meterRegistry, "sent");
+        this.notModifiedFiles = servedCounter(meterRegistry, "not_modified");
+        this.missingFiles = servedCounter(meterRegistry, "not_found");
+        this.sentBytes = Counter.builder("files.served.bytes")
+            .description("Bytes of uploaded files written to responses (including sendfile)")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+    }
+
+    private static Counter servedCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("files.served")
+            .description("Requests for uploaded files, by outcome")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Write the file (or the requested range of it) to the response.
+     * Responds 400 for paths outside the upload directory and 404 for missing files.
+     */
+    public void serve(Path path, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path file = path.toAbsolutePath().normalize();
+        // Path traversal protection
+        if (!file.startsWith(basePath)) {
+            response.setStatus(HttpStatus.BAD_REQUEST.value());
+            return;
+        }
+
+        boolean sendfile = Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED));
+        FileMetadata metadata = metadataCache.get(file, FileService::readMetadata);
+        if (metadata != null && sendfile && !metadata.isCurrent(file)) {
+            // Deleted or replaced since its metadata was cached
+            metadataCache.invalidate(file);
+            metadata = metadataCache.get(file, FileService::readMetadata);
+        }
+        if (metadata == null) {
+            missingFiles.increment();
+            response.setStatus(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        response.setHeader(HttpHeaders.CACHE_CONTROL, httpCacheProperties.getPolicy("uploads"));
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        if (new ServletWebRequest(request, response).checkNotModified(metadata.etag, metadata.lastModified)) {
+            notModifiedFiles.increment();
+            return;
+        }
+
+        long start = 0;
+        long length = metadata.size;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isRangeApplicable(request, metadata)) {
+            long[] range = parseRange(rangeHeader, metadata.size);
+            if (range == null) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + metadata.size);
+                return;
+            }
+            if (range.length == 2) {
+                start = range[0];
+                length = range[1] - range[0] + 1;
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE,
+                    "bytes " + range[0] + "-" + range[1] + "/" + metadata.size);
+            }
+        }
+
+        response.setContentType(metadata.contentType);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, metadata.contentDisposition);
+        response.setContentLengthLong(length);
+
+        sentFiles.increment();
+        if ("HEAD".equals(request.getMethod()) || length == 0) {
+            return;
+        }
+
+        if (sendfile) {
+            request.setAttribute(SENDFILE_FILENAME, metadata.realPath);
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, start + length);
+            sentBytes.increment(length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            OutputStream out = response.getOutputStream();
+            ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(length, TRANSFER_BUFFER_SIZE));
+            long position = start;
+            long end = start + length;
+            while (position < end) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+                int read = channel.read(buffer, position);
+                if (read <= 0) {
+                    break;
+                }
+                out.write(buffer.array(), 0, read);
+                position += read;
+            }
+            sentBytes.increment(position - start);
+        } catch (NoSuchFileException e) {
+            // Deleted since its metadata was cached
+            metadataCache.invalidate(file);
+            if (!response.isCommitted()) {
+                response.reset();
+                response.setStatus(HttpStatus.NOT_FOUND.value());
+            }
+        }
+    }
+
+    /**
+     * Forget the cached metadata of all files in a directory, e.g. when a report's
+     * images are deleted or its folder is moved.
+     */
+    public void evictDirectory(Path directory) {
+        Path normalized = directory.toAbsolutePath().normalize();
+        metadataCache.asMap().keySet().removeIf(file -> file.startsWith(normalized));
+    }
+
+    public static String determineContentType(String filename) {
+        String extension = filename.substring(filename.lastIndexOf(".") + 1).toLowerCase();
+        return CONTENT_TYPES.getOrDefault(extension, "application/octet-stream");
+    }
+
+    /**
+     * A Range is ignored when If-Range names a different version of the file.
+     */
+    private static boolean isRangeApplicable(HttpServletRequest request, FileMetadata metadata) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+            return ifRange.equals(metadata.etag);
+        }
+        long date = request.getDateHeader(HttpHeaders.IF_RANGE);
+        return date >= 0 && metadata.lastModified / 1000 <= date / 1000;
+    }
+
+    /**
+     * Parse a single "bytes=" range. Returns [start, end] (inclusive), an empty array
+     * to serve the whole file (multiple or malformed ranges), or null when unsatisfiable.
+     */
+    static long[] parseRange(String header, long size) {
+        Matcher matcher = SINGLE_RANGE.matcher(header.trim());
+        if (!matcher.matches() || (matcher.group(1).isEmpty() && matcher.group(2).isEmpty())) {
+            return new long[0];
+        }
+        try {
+            long start;
+            long end;
+            if (matcher.group(1).isEmpty()) {
+                // Suffix range: the last N bytes
+                long suffix = Long.parseLong(matcher.group(2));
+                if (suffix == 0) {
+                    return null;
+                }
+                start = Math.max(0, size - suffix);
+                end = size - 1;
+            } else {
+                start = Long.parseLong(matcher.group(1));
+                end = matcher.group(2).isEmpty() ? size - 1 : Math.min(Long.parseLong(matcher.group(2)), size - 1);
+                if (end < start) {
+                    return start >= size ? null : new long[0];
+                }
+            }
+            return start < size ? new long[]{start, end} : null;
+        } catch (NumberFormatException e) {
+            return new long[0];
+        }
+    }
+
+    /**
+     * Returns null for missing or unreadable files; null results are not cached.
+     */
+    private static FileMetadata readMetadata(Path file) {
+        try {
+            if (!Files.isReadable(file)) {
+                return null;
+            }
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return new FileMetadata(file, attributes.size(), attributes.lastModifiedTime().toMillis());
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static class FileMetadata {
+        private final String realPath;
+        private final long size;
+        private final long lastModified;
+        private final String etag;
+        private final String contentType;
+        private final String contentDisposition;
+
+        private FileMetadata(Path file, long size, long lastModified) throws IOException {
+            String filename = file.getFileName().toString();
+            this.realPath = file.toRealPath().toString();
+            this.size = size;
+            this.lastModified = lastModified;
+            this.etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+            this.contentType = determineContentType(filename);
+            this.contentDisposition = "inline; filename=\"" + filename + "\"";
+        }
+
+        private boolean isCurrent(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return attributes.size() == size && attributes.lastModifiedTime().toMillis() == lastModified;
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -1,33 +1,91 @@
 package com.slm.backend.service;
 
 import com.slm.backend.config.UploadProperties;
+import com.slm.backend.dto.report.ImageUploadResponse;
+import com.slm.backend.dto.report.ImageUploadResult;
 import com.slm.backend.dto.report.ReportDto;
 import com.slm.backend.entity.Report;
 import com.slm.backend.entity.ReportImage;
 import com.slm.backend.repository.ReportImageRepository;
 import com.slm.backend.repository.ReportRepository;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import org.apache.tomcat.util.http.fileupload.FileItemIterator;
+import org.apache.tomcat.util.http.fileupload.FileItemStream;
+import org.apache.tomcat.util.http.fileupload.FileUpload;
+import org.apache.tomcat.util.http.fileupload.FileUploadException;
+import org.apache.tomcat.util.http.fileupload.impl.FileUploadIOException;
+import org.apache.tomcat.util.http.fileupload.servlet.ServletRequestContext;
+import org.springframework.boot.autoconfigure.web.servlet.MultipartProperties;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.util.Map;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Service
-@RequiredArgsConstructor
 public class ImageService {
 
     private final ReportRepository reportRepository;
     private final ReportImageRepository reportImageRepository;
     private final UploadProperties uploadProperties;
+    private final ReportDetailCache reportDetailCache;
+    private final ReportListVersion reportListVersion;
+    private final FileService fileService;
+    private final ImageVariantService imageVariantService;
+    private final MultipartProperties multipartProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final DistributionSummary uploadSize;
+    private final Timer uploadTransfer;
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    public ImageService(ReportRepository reportRepository,
+                        ReportImageRepository reportImageRepository,
+                        UploadProperties uploadProperties,
+                        ReportDetailCache reportDetailCache,
+                        ReportListVersion reportListVersion,
+                        FileService fileService,
+                        ImageVariantService imageVariantService,
+                        MultipartProperties multipartProperties,
+                        TransactionTemplate transactionTemplate,
+                        MeterRegistry meterRegistry) {
+        this.reportRepository = reportRepository;
+        this.reportImageRepository = reportImageRepository;
+        this.uploadProperties = uploadProperties;
+        this.reportDetailCache = reportDetailCache;
+        this.reportListVersion = reportListVersion;
+        this.fileService = fileService;
+        this.imageVariantService = imageVariantService;
+        this.multipartProperties = multipartProperties;
+        this.transactionTemplate = transactionTemplate;
+
+        // Sum rate is the upload throughput in bytes/s
+        this.uploadSize = DistributionSummary.builder("images.upload.size")
+            .description("Size of stored image uploads")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        this.uploadTransfer = Timer.builder("images.upload.transfer")
+            .description("Time taken to receive an uploaded image and write it to disk")
+            .register(meterRegistry);
+    }
 
     @Transactional
-    public Map<String, Object> uploadImage(Long reportId, MultipartFile file, String alt, String caption) throws IOException {
+    public ImageUploadResponse uploadImage(Long reportId, MultipartFile file, String alt, String caption) throws IOException {
         Report report = reportRepository.findById(reportId)
             .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + reportId));
 
@@ -54,7 +112,9 @@ public class ImageService {
 
         // Save file in report folder
         Path filePath = reportPath.resolve(filename);
-        Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        long transferStart = System.nanoTime();
+        long size = Files.copy(file.getInputStream(), filePath, StandardCopyOption.REPLACE_EXISTING);
+        recordUpload(size, transferStart);
 
         // Create image record with URL
         String imageUrl = uploadProperties.getFileUrl(reportId, filename);
@@ -68,11 +128,182 @@ public class ImageService {
             .build();
 
         image = reportImageRepository.save(image);
+        // Image changes are report changes for cache validation (ETag / Last-Modified)
+        report.setUpdatedAt(LocalDateTime.now());
+        reportDetailCache.evictAfterCommit(reportId);
+        reportListVersion.changedAfterCommit();
+        imageVariantService.generateAfterCommit(reportId, image.getId(), filePath);
 
-        return Map.of(
-            "image", mapToDto(image),
-            "message", "Image uploaded successfully"
-        );
+        return ImageUploadResponse.builder()
+            .message("Image uploaded successfully")
+            .image(mapToDto(image))
+            .build();
+    }
+
+    /**
+     * Upload every file part of a multipart request. Parts are streamed from the request
+     * straight into the report folder (no buffering in memory or temp files), then all rows
+     * are inserted in one JDBC batch, ordered after the report's existing images.
+     * Files are accepted or rejected individually; the results follow the request order.
+     * The request must not have been resolved as multipart beforehand.
+     */
+    public List<ImageUploadResult> uploadImages(Long reportId, HttpServletRequest request) throws IOException {
+        if (!reportRepository.existsById(reportId)) {
+            throw new IllegalArgumentException("Report not found with id: " + reportId);
+        }
+        String requestContentType = request.getContentType();
+        if (requestContentType == null || !requestContentType.toLowerCase().startsWith("multipart/")) {
+            throw new IllegalArgumentException("Request must be multipart/form-data");
+        }
+
+        Path reportPath = uploadProperties.getReportUploadPath(reportId);
+        Files.createDirectories(reportPath);
+
+        List<ImageUploadResult> results = new ArrayList<>();
+        List<StoredImage> stored = new ArrayList<>();
+        long maxFileSize = multipartProperties.getMaxFileSize().toBytes();
+        try {
+            FileItemIterator items = newFileUpload().getItemIterator(new ServletRequestContext(request));
+            while (items.hasNext()) {
+                FileItemStream item = items.next();
+                if (item.isFormField() || item.getName() == null || item.getName().isBlank()) {
+                    continue;
+                }
+                ImageUploadResult result = ImageUploadResult.builder().filename(item.getName()).build();
+                results.add(result);
+
+                String contentType = item.getContentType();
+                if (contentType == null || !contentType.startsWith("image/")) {
+                    // The iterator skips the rest of this part
+                    result.setError("File must be an image");
+                    continue;
+                }
+
+                String originalFilename = item.getName();
+                String extension = originalFilename.contains(".")
+                    ? originalFilename.substring(originalFilename.lastIndexOf("."))
+                    : ".jpg";
+                String filename = UUID.randomUUID().toString() + extension;
+                Path filePath = reportPath.resolve(filename);
+
+                long size;
+                long transferStart = System.nanoTime();
+                try {
+                    size = copyPart(item, filePath, maxFileSize);
+                } catch (IOException e) {
+                    Files.deleteIfExists(filePath);
+                    throw e;
+                }
+                if (size < 0) {
+                    Files.deleteIfExists(filePath);
+                    result.setError("File exceeds the maximum size of " + multipartProperties.getMaxFileSize());
+                    continue;
+                }
+                if (size == 0) {
+                    Files.deleteIfExists(filePath);
+                    result.setError("File is empty");
+                    continue;
+                }
+                recordUpload(size, transferStart);
+                stored.add(new StoredImage(result, filePath, uploadProperties.getFileUrl(reportId, filename), originalFilename));
+            }
+        } catch (FileUploadException | FileUploadIOException e) {
+            deleteFiles(stored);
+            throw new IllegalArgumentException("Invalid upload: " + e.getMessage());
+        } catch (IOException | RuntimeException e) {
+            deleteFiles(stored);
+            throw e;
+        }
+
+        if (!stored.isEmpty()) {
+            try {
+                insertImages(reportId, stored);
+            } catch (RuntimeException e) {
+                deleteFiles(stored);
+                throw e;
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Insert the rows of the stored files in one batch and publish them once committed.
+     */
+    private void insertImages(Long reportId, List<StoredImage> stored) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Report report = reportRepository.getReferenceById(reportId);
+            int firstOrder = reportImageRepository.findMaxDisplayOrder(reportId) + 1;
+
+            List<ReportImage> images = new ArrayList<>(stored.size());
+            for (int i = 0; i < stored.size(); i++) {
+                StoredImage image = stored.get(i);
+                images.add(ReportImage.builder()
+                    .report(report)
+                    .url(image.url)
+                    .alt(image.alt)
+                    .displayOrder(firstOrder + i)
+                    .build());
+            }
+            // Ids are allocated here; the inserts are batched at flush
+            images = reportImageRepository.saveAll(images);
+
+            for (int i = 0; i < stored.size(); i++) {
+                StoredImage image = stored.get(i);
+                ReportImage saved = images.get(i);
+                image.result.setUploaded(true);
+                image.result.setImage(mapToDto(saved));
+                imageVariantService.generateAfterCommit(reportId, saved.getId(), image.path);
+            }
+
+            // Image changes are report changes for cache validation (ETag / Last-Modified)
+            reportRepository.touch(reportId, LocalDateTime.now());
+            reportDetailCache.evictAfterCommit(reportId);
+            reportListVersion.changedAfterCommit();
+        });
+    }
+
+    /**
+     * Copy one part to disk. Returns the size, or -1 once the part exceeds maxFileSize;
+     * the rest of an oversized part is skipped so the following parts can still be read.
+     * (The parser's own per-file limit would abort the whole request instead.)
+     */
+    private static long copyPart(FileItemStream item, Path target, long maxFileSize) throws IOException {
+        try (InputStream in = item.openStream();
+             OutputStream out = Files.newOutputStream(target, StandardOpenOption.CREATE_NEW)) {
+            byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                size += read;
+                if (maxFileSize >= 0 && size > maxFileSize) {
+                    return -1;
+                }
+                out.write(buffer, 0, read);
+            }
+            return size;
+        }
+    }
+
+    private void recordUpload(long size, long transferStart) {
+        uploadSize.record(size);
+        uploadTransfer.record(System.nanoTime() - transferStart, TimeUnit.NANOSECONDS);
+    }
+
+    private FileUpload newFileUpload() {
+        FileUpload upload = new FileUpload();
+        upload.setSizeMax(multipartProperties.getMaxRequestSize().toBytes());
+        upload.setFileCountMax(uploadProperties.getMaxBatchFiles());
+        return upload;
+    }
+
+    private static void deleteFiles(List<StoredImage> stored) {
+        for (StoredImage image : stored) {
+            try {
+                Files.deleteIfExists(image.path);
+            } catch (IOException e) {
+                // Best effort; an orphaned file is harmless
+            }
+        }
     }
 
     @Transactional
@@ -90,11 +321,16 @@ public class ImageService {
             String filename = url.substring(url.lastIndexOf("/") + 1);
             Path filePath = uploadProperties.getReportUploadPath(reportId).resolve(filename);
             Files.deleteIfExists(filePath);
+            imageVariantService.deleteVariants(filePath);
         } catch (IOException e) {
             // Log error but continue with database deletion
         }
+        fileService.evictDirectory(uploadProperties.getReportUploadPath(reportId));
 
         reportImageRepository.delete(image);
+        image.getReport().setUpdatedAt(LocalDateTime.now());
+        reportDetailCache.evictAfterCommit(reportId);
+        reportListVersion.changedAfterCommit();
     }
 
     public void softDeleteReportFolder(Long reportId) {
@@ -108,6 +344,7 @@ public class ImageService {
         } catch (IOException e) {
             // Log error but don't fail the report deletion
         }
+        fileService.evictDirectory(sourcePath);
     }
 
     @Transactional
@@ -121,6 +358,9 @@ public class ImageService {
 
         image.setDisplayOrder(order);
         image = reportImageRepository.save(image);
+        image.getReport().setUpdatedAt(LocalDateTime.now());
+        reportDetailCache.evictAfterCommit(reportId);
+        reportListVersion.changedAfterCommit();
 
         return mapToDto(image);
     }
@@ -137,4 +377,18 @@ public class ImageService {
             .uploadedAt(image.getCreatedAt())
             .build();
     }
+
+    private static class StoredImage {
+        private final ImageUploadResult result;
+        private final Path path;
+        private final String url;
+        private final String alt;
+
+        private StoredImage(ImageUploadResult result, Path path, String url, String alt) {
+            this.result = result;
+            this.path = path;
+            this.url = url;
+            this.alt = alt;
+        }
+    }
 }
@@ -0,0 +1,276 @@
+package com.slm.backend.service;
+
+import com.slm.backend.config.ImageProperties;
+import com.slm.backend.config.UploadProperties;
+import com.slm.backend.repository.ReportImageRepository;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Dimension;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Generates a thumbnail and width-based variants for uploaded images on a background pool.
+ * Files are written next to the original as {name}-thumb.jpg and {name}-w{width}.jpg
+ * (plus .webp copies when enabled), and the thumbnail URL is stored on the ReportImage.
+ */
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    private static final String THUMBNAIL_SUFFIX = "-thumb";
+
+    private final ThreadPoolTaskExecutor imageTaskExecutor;
+    private final ImageProperties imageProperties;
+    private final UploadProperties uploadProperties;
+    private final ReportImageRepository reportImageRepository;
+    private final ReportRepository reportRepository;
+    private final ReportDetailCache reportDetailCache;
+    private final ReportListVersion reportListVersion;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Timer jobTimer;
+    private final Timer waitTimer;
+    private final Counter failedJobs;
+    private final Counter skippedJobs;
+
+    public ImageVariantService(ThreadPoolTaskExecutor imageTaskExecutor,
+                               ImageProperties imageProperties,
+                               UploadProperties uploadProperties,
+                               ReportImageRepository reportImageRepository,
+                               ReportRepository reportRepository,
+                               ReportDetailCache reportDetailCache,
+                               ReportListVersion reportListVersion,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.imageTaskExecutor = imageTaskExecutor;
+        this.imageProperties = imageProperties;
+        this.uploadProperties = uploadProperties;
+        this.reportImageRepository = reportImageRepository;
+        this.reportRepository = reportRepository;
+        this.reportDetailCache = reportDetailCache;
+        this.reportListVersion = reportListVersion;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("images.variants.queue", imageTaskExecutor,
+                executor -> executor.getThreadPoolExecutor().getQueue().size())
+            .description("Image variant jobs waiting for a worker")
+            .register(meterRegistry);
+        this.jobTimer = Timer.builder("images.variants.job")
+            .description("Time to generate all variants of one image")
+            .register(meterRegistry);
+        this.waitTimer = Timer.builder("images.variants.wait")
+            .description("Time an image variant job spent queued")
+            .register(meterRegistry);
+        this.failedJobs = Counter.builder("images.variants.failed")
+            .description("Image variant jobs that failed")
+            .register(meterRegistry);
+        this.skippedJobs = Counter.builder("images.variants.skipped")
+            .description("Image variant jobs skipped as the original exceeds app.images.max-pixels")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Queue variant generation for an uploaded image once the upload transaction has committed.
+     */
+    public void generateAfterCommit(Long reportId, Long imageId, Path original) {
+        TransactionUtil.afterCommit(() -> {
+            long queuedAt = System.nanoTime();
+            imageTaskExecutor.execute(() -> {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+                jobTimer.record(() -> generate(reportId, imageId, original));
+            });
+        });
+    }
+
+    /**
+     * Delete the generated files of an image; the original is left alone.
+     */
+    public void deleteVariants(Path original) {
+        String prefix = baseName(original) + "-";
+        try (DirectoryStream<Path> variants = Files.newDirectoryStream(original.getParent(), prefix + "*")) {
+            for (Path variant : variants) {
+                Files.deleteIfExists(variant);
+            }
+        } catch (IOException e) {
+            log.warn("Failed to delete variants of {}: {}", original, e.getMessage());
+        }
+    }
+
+    private void generate(Long reportId, Long imageId, Path original) {
+        try {
+            Dimension size = readSize(original);
+            if (size == null) {
+                // No ImageIO reader for this format (e.g. SVG); serve the original only
+                return;
+            }
+            if ((long) size.width * size.height > imageProperties.getMaxPixels()) {
+                skippedJobs.increment();
+                log.warn("Skipping variants for image {} of report {}: {}x{} exceeds {} pixels",
+                    imageId, reportId, size.width, size.height, imageProperties.getMaxPixels());
+                return;
+            }
+            BufferedImage source = ImageIO.read(original.toFile());
+            if (source == null) {
+                return;
+            }
+            if (!reportImageRepository.existsById(imageId)) {
+                // Deleted while queued
+                return;
+            }
+
+            String baseName = baseName(original);
+            Path directory = original.getParent();
+
+            String thumbnailName = baseName + THUMBNAIL_SUFFIX;
+            write(resize(source, imageProperties.getThumbnailWidth()), directory, thumbnailName);
+
+            for (int width : imageProperties.getVariantWidths()) {
+                if (width < source.getWidth()) {
+                    write(resize(source, width), directory, baseName + "-w" + width);
+                }
+            }
+
+            String thumbnailUrl = uploadProperties.getFileUrl(reportId, thumbnailName + ".jpg");
+            Boolean updated = transactionTemplate.execute(status -> {
+                if (reportImageRepository.updateThumbnailUrl(imageId, thumbnailUrl) == 0) {
+                    return false;
+                }
+                // Thumbnails show up in report lists, so this is a report change for HTTP caching
+                reportRepository.touch(reportId, LocalDateTime.now());
+                reportListVersion.changedAfterCommit();
+                return true;
+            });
+            if (!Boolean.TRUE.equals(updated)) {
+                // Deleted while the variants were written; nothing else will remove them
+                deleteVariants(original);
+                return;
+            }
+            reportDetailCache.evict(reportId);
+        } catch (Exception e) {
+            failedJobs.increment();
+            log.warn("Failed to generate variants for image {} of report {}: {}", imageId, reportId, e.getMessage());
+        }
+    }
+
+    /**
+     * Dimensions from the image header, read without decoding the pixels.
+     *
+     * @return null when no ImageIO reader supports the format
+     */
+    private static Dimension readSize(Path original) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                return new Dimension(reader.getWidth(0), reader.getHeight(0));
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    /**
+     * Scale to the given width keeping the aspect ratio, halving in steps for large
+     * reductions so bilinear filtering keeps its quality. Never upscales.
+     */
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        if (targetWidth >= source.getWidth()) {
+            return draw(source, source.getWidth(), source.getHeight());
+        }
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        while (width > targetWidth) {
+            width = Math.max(targetWidth, width / 2);
+            int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+            current = draw(current, width, height);
+        }
+        return current;
+    }
+
+    /**
+     * Draws onto an opaque RGB canvas (white background) as JPEG has no alpha channel.
+     */
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private void write(BufferedImage image, Path directory, String name) throws IOException {
+        writeJpeg(image, directory.resolve(name + ".jpg"));
+
+        if (imageProperties.isWebp()) {
+            Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName("webp");
+            if (writers.hasNext()) {
+                writeWith(writers.next(), image, directory.resolve(name + ".webp"), null);
+            }
+        }
+    }
+
+    private void writeJpeg(BufferedImage image, Path target) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(imageProperties.getJpegQuality());
+        writeWith(writer, image, target, param);
+    }
+
+    private static void writeWith(ImageWriter writer, BufferedImage image, Path target, ImageWriteParam param)
+            throws IOException {
+        // The output stream overwrites in place without truncating
+        Files.deleteIfExists(target);
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private static String baseName(Path file) {
+        String filename = file.getFileName().toString();
+        int dot = filename.lastIndexOf('.');
+        return dot > 0 ? filename.substring(0, dot) : filename;
+    }
+}
@@ -0,0 +1,296 @@
+package com.slm.backend.service;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * In-process inverted index.
+ * Terms are lowercased with diacritics removed; each posting stores a weighted term
+ * frequency (title > excerpt > content) and hits are scored with tf * idf.
+ */
+@Component
+public class InMemoryReportSearchIndex implements ReportSearchIndex {
+
+    private static final float TITLE_WEIGHT = 3f;
+    private static final float EXCERPT_WEIGHT = 2f;
+    private static final float CONTENT_WEIGHT = 1f;
+
+    // Prefix expansions of the last query term score lower than exact matches
+    private static final float PREFIX_WEIGHT = 0.5f;
+
+    private static final int SNIPPET_LENGTH = 160;
+
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+");
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+    private static final Pattern HTML_TAG = Pattern.compile("<[^>]*>");
+
+    // term -> (report id -> weighted term frequency); sorted for prefix lookups
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+
+    // report id -> indexed text, used for highlighting and to remove old postings
+    private final Map<Long, IndexedReport> reports = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(Long reportId, String title, String excerpt, String content) {
+        // Content is HTML; entities are decoded so they are neither indexed as words nor escaped twice
+        String text = HtmlUtils.htmlUnescape(HTML_TAG.matcher(nullToEmpty(content)).replaceAll(" "));
+        IndexedReport indexed = new IndexedReport(nullToEmpty(title), nullToEmpty(excerpt), text);
+
+        Map<String, Float> weights = new HashMap<>();
+        addTerms(weights, indexed.title, TITLE_WEIGHT);
+        addTerms(weights, indexed.excerpt, EXCERPT_WEIGHT);
+        addTerms(weights, indexed.content, CONTENT_WEIGHT);
+        indexed.terms = weights.keySet();
+
+        lock.writeLock().lock();
+        try {
+            removePostings(reportId);
+            reports.put(reportId, indexed);
+            weights.forEach((term, weight) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(reportId, weight));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long reportId) {
+        lock.writeLock().lock();
+        try {
+            removePostings(reportId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            reports.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Set<Long> indexedIds() {
+        lock.readLock().lock();
+        try {
+            return new HashSet<>(reports.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Long> search(String query) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Long, Float> scores = null;
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Float> termScores = scoreTerm(terms.get(i), i == terms.size() - 1);
+                if (scores == null) {
+                    scores = termScores;
+                } else {
+                    // Every term must match
+                    scores.keySet().retainAll(termScores.keySet());
+                    scores.replaceAll((id, score) -> score + termScores.get(id));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+
+            return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Float>comparingByValue().reversed()
+                    .thenComparing(Map.Entry.<Long, Float>comparingByKey().reversed()))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<Long, String> highlights(Collection<Long> reportIds, String query) {
+        List<String> terms = tokenize(query);
+        Map<Long, String> highlights = new HashMap<>();
+        if (terms.isEmpty()) {
+            return highlights;
+        }
+
+        Set<String> exact = new HashSet<>(terms);
+        String prefix = terms.get(terms.size() - 1);
+        Predicate<String> matches = term -> exact.contains(term) || term.startsWith(prefix);
+
+        lock.readLock().lock();
+        try {
+            for (Long reportId : reportIds) {
+                IndexedReport indexed = reports.get(reportId);
+                if (indexed == null) {
+                    continue;
+                }
+                String highlight = highlight(indexed.title, matches, false);
+                if (highlight == null) {
+                    highlight = highlight(indexed.excerpt, matches, true);
+                }
+                if (highlight == null) {
+                    highlight = highlight(indexed.content, matches, true);
+                }
+                if (highlight != null) {
+                    highlights.put(reportId, highlight);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return highlights;
+    }
+
+    /**
+     * Score contribution of one query term per report. A prefix term also
+     * matches every indexed term starting with it.
+     */
+    private Map<Long, Float> scoreTerm(String term, boolean prefix) {
+        Map<Long, Float> scores = new HashMap<>();
+
+        Map<String, Map<Long, Float>> matched = prefix
+            ? postings.subMap(term, true, term + Character.MAX_VALUE, true)
+            : postings.containsKey(term) ? Map.of(term, postings.get(term)) : Map.of();
+
+        matched.forEach((indexedTerm, reportWeights) -> {
+            float idf = (float) Math.log(1 + (double) reports.size() / reportWeights.size());
+            float boost = indexedTerm.equals(term) ? 1f : PREFIX_WEIGHT;
+            reportWeights.forEach((reportId, weight) -> scores.merge(reportId, weight * idf * boost, Float::sum));
+        });
+
+        return scores;
+    }
+
+    private void removePostings(Long reportId) {
+        IndexedReport previous = reports.remove(reportId);
+        if (previous == null) {
+            return;
+        }
+        for (String term : previous.terms) {
+            Map<Long, Float> reportWeights = postings.get(term);
+            if (reportWeights != null) {
+                reportWeights.remove(reportId);
+                if (reportWeights.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a field's terms with a dampened frequency (1 + ln tf) times the field weight.
+     */
+    private static void addTerms(Map<String, Float> weights, String text, float fieldWeight) {
+        Map<String, Integer> frequencies = new HashMap<>();
+        tokenize(text).forEach(term -> frequencies.merge(term, 1, Integer::sum));
+        frequencies.forEach((term, tf) ->
+            weights.merge(term, fieldWeight * (1 + (float) Math.log(tf)), Float::sum));
+    }
+
+    private static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            terms.add(normalize(matcher.group()));
+        }
+        return terms;
+    }
+
+    private static String normalize(String token) {
+        String stripped = DIACRITICS.matcher(Normalizer.normalize(token, Normalizer.Form.NFD)).replaceAll("");
+        return stripped.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * HTML-escaped text with matching words wrapped in mark tags, or null if nothing matches.
+     * With snippet set, only a window around the first match is returned.
+     */
+    private static String highlight(String text, Predicate<String> matches, boolean snippet) {
+        Matcher matcher = TOKEN.matcher(text);
+        int first = -1;
+        while (matcher.find()) {
+            if (matches.test(normalize(matcher.group()))) {
+                first = matcher.start();
+                break;
+            }
+        }
+        if (first < 0) {
+            return null;
+        }
+
+        int start = 0;
+        int end = text.length();
+        if (snippet && text.length() > SNIPPET_LENGTH) {
+            start = Math.max(0, first - SNIPPET_LENGTH / 4);
+            // Do not cut a word in half at the start of the snippet
+            while (start > 0 && start < first && !Character.isWhitespace(text.charAt(start - 1))) {
+                start++;
+            }
+            end = Math.min(text.length(), start + SNIPPET_LENGTH);
+        }
+
+        StringBuilder result = new StringBuilder();
+        if (start > 0) {
+            result.append("…");
+        }
+        int position = start;
+        matcher.region(start, end);
+        while (matcher.find()) {
+            if (matches.test(normalize(matcher.group()))) {
+                result.append(HtmlUtils.htmlEscape(text.substring(position, matcher.start()), "UTF-8"))
+                    .append("<mark>")
+                    .append(HtmlUtils.htmlEscape(matcher.group(), "UTF-8"))
+                    .append("</mark>");
+                position = matcher.end();
+            }
+        }
+        result.append(HtmlUtils.htmlEscape(text.substring(position, end), "UTF-8"));
+        if (end < text.length()) {
+            result.append("…");
+        }
+        return result.toString().replaceAll("\\s+", " ").trim();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+
+    private static class IndexedReport {
+        private final String title;
+        private final String excerpt;
+        private final String content;
+        private Set<String> terms;
+
+        private IndexedReport(String title, String excerpt, String content) {
+            this.title = title;
+            this.excerpt = excerpt;
+            this.content = content;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.report.ReportCountsDto;
+import com.slm.backend.entity.BaseEntity;
+import com.slm.backend.entity.Report;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Published report counts per category and per tag, kept in memory.
+ * ReportService reports every change of a report's status, category or tags, and the
+ * counters are adjusted after commit. The counts are recomputed from the database at
+ * startup and periodically, which corrects any drift (changes made by another instance,
+ * or an adjustment racing with the previous recount).
+ */
+@Slf4j
+@Service
+public class ReportCountService implements SmartInitializingSingleton {
+
+    private final ReportRepository reportRepository;
+
+    private volatile Counts counts = new Counts();
+
+    // Drift is only worth reporting once the counts have been loaded
+    private boolean loaded;
+
+    public ReportCountService(ReportRepository reportRepository) {
+        this.reportRepository = reportRepository;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    public ReportCountsDto getCounts() {
+        Counts current = counts;
+        return ReportCountsDto.builder()
+            .published(current.published.sum())
+            .categories(current.snapshot(current.byCategory))
+            .tags(current.snapshot(current.byTag))
+            .build();
+    }
+
+    /**
+     * Adjust the counts once the current transaction commits. Either state may be null,
+     * for a created or deleted report.
+     */
+    public void changedAfterCommit(State before, State after) {
+        State from = before != null ? before : State.UNPUBLISHED;
+        State to = after != null ? after : State.UNPUBLISHED;
+        if (from.equals(to)) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            Counts current = counts;
+            current.add(from, -1);
+            current.add(to, 1);
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${app.report-counts.reconcile-interval-ms:600000}",
+        initialDelayString = "${app.report-counts.reconcile-interval-ms:600000}")
+    public synchronized void reconcile() {
+        long start = System.currentTimeMillis();
+        Counts fresh = new Counts();
+        fresh.published.add(reportRepository.countByStatus(Report.Status.PUBLISHED));
+        reportRepository.countByCategoryWithStatus(Report.Status.PUBLISHED)
+            .forEach(row -> fresh.byCategory.computeIfAbsent((Long) row[0], id -> new LongAdder()).add((Long) row[1]));
+        reportRepository.countByTagWithStatus(Report.Status.PUBLISHED)
+            .forEach(row -> fresh.byTag.computeIfAbsent((Long) row[0], id -> new LongAdder()).add((Long) row[1]));
+
+        Counts previous = counts;
+        counts = fresh;
+
+        if (loaded && !previous.sameAs(fresh)) {
+            log.warn("Corrected drifted report counts: published {} -> {}", previous.published.sum(), fresh.published.sum());
+        }
+        loaded = true;
+        log.debug("Recounted published reports in {} ms", System.currentTimeMillis() - start);
+    }
+
+    /**
+     * What a report contributes to the counts.
+     */
+    public static final class State {
+        private static final State UNPUBLISHED = new State(false, null, Set.of());
+
+        private final boolean published;
+        private final Long categoryId;
+        private final Set<Long> tagIds;
+
+        private State(boolean published, Long categoryId, Set<Long> tagIds) {
+            this.published = published;
+            this.categoryId = categoryId;
+            this.tagIds = tagIds;
+        }
+
+        /**
+         * Captures the report's current contribution. Unpublished reports contribute nothing,
+         * so their tags are not loaded.
+         */
+        public static State of(Report report) {
+            if (report.getStatus() != Report.Status.PUBLISHED) {
+                return UNPUBLISHED;
+            }
+            return new State(
+                true,
+                report.getCategory() != null ? report.getCategory().getId() : null,
+                report.getTags().stream().map(BaseEntity::getId).collect(Collectors.toUnmodifiableSet())
+            );
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof State other)) {
+                return false;
+            }
+            return published == other.published
+                && Objects.equals(categoryId, other.categoryId)
+                && tagIds.equals(other.tagIds);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(published, categoryId, tagIds);
+        }
+    }
+
+    private static final class Counts {
+        private final LongAdder published = new LongAdder();
+        private final Map<Long, LongAdder> byCategory = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> byTag = new ConcurrentHashMap<>();
+
+        private void add(State state, int delta) {
+            if (!state.published) {
+                return;
+            }
+            published.add(delta);
+            if (state.categoryId != null) {
+                byCategory.computeIfAbsent(state.categoryId, id -> new LongAdder()).add(delta);
+            }
+            for (Long tagId : state.tagIds) {
+                byTag.computeIfAbsent(tagId, id -> new LongAdder()).add(delta);
+            }
+        }
+
+        private Map<Long, Long> snapshot(Map<Long, LongAdder> counters) {
+            Map<Long, Long> snapshot = new HashMap<>();
+            counters.forEach((id, counter) -> {
+                long count = counter.sum();
+                if (count > 0) {
+                    snapshot.put(id, count);
+                }
+            });
+            return snapshot;
+        }
+
+        private boolean sameAs(Counts other) {
+            return published.sum() == other.published.sum()
+                && snapshot(byCategory).equals(other.snapshot(other.byCategory))
+                && snapshot(byTag).equals(other.snapshot(other.byTag));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.slm.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.slm.backend.dto.report.ReportDto;
+import com.slm.backend.util.TransactionUtil;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Read-through cache for single report lookups by id and slug.
+ * Entries hold the serialized ReportDto, so callers always get their own copy, and
+ * are bounded by size and time to live. Writers evict entries after their transaction
+ * commits; the TTL bounds staleness for changes made elsewhere (e.g. a renamed category).
+ * Hit, miss and eviction statistics are published under the "reports.detail" cache metrics.
+ */
+@Component
+public class ReportDetailCache {
+
+    private final Cache<Long, CachedReport> reports;
+
+    // Secondary index; entries are verified against the cached slug, so stale ones are harmless
+    private final Cache<String, Long> idsBySlug;
+
+    private final ObjectMapper objectMapper;
+    private final ReportViewCounter reportViewCounter;
+
+    public ReportDetailCache(ObjectMapper objectMapper,
+                             ReportViewCounter reportViewCounter,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.cache.report-detail.max-size:1000}") long maxSize,
+                             @Value("${app.cache.report-detail.ttl:10m}") Duration ttl) {
+        this.objectMapper = objectMapper;
+        this.reportViewCounter = reportViewCounter;
+        this.reports = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        this.idsBySlug = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, reports, "reports.detail");
+    }
+
+    /**
+     * Cached report, or the loader's result which is then cached.
+     * Concurrent misses for the same id share a single load.
+     */
+    public ReportDto getById(Long id, Supplier<ReportDto> loader) {
+        CachedReport cached = reports.get(id, key -> toCached(loader.get()));
+        idsBySlug.put(cached.slug, id);
+        return fromCached(cached);
+    }
+
+    /**
+     * Cached report with this slug. On a miss the slug is resolved to an id (idLoader) and the
+     * report loaded as in getById, so a load racing with an update is discarded by its eviction.
+     */
+    public ReportDto getBySlug(String slug, Supplier<Long> idLoader, Function<Long, ReportDto> loader) {
+        Long id = idsBySlug.getIfPresent(slug);
+        if (id != null) {
+            CachedReport cached = reports.getIfPresent(id);
+            if (cached != null && cached.slug.equals(slug)) {
+                return fromCached(cached);
+            }
+        }
+
+        Long resolvedId = idLoader.get();
+        ReportDto report = getById(resolvedId, () -> loader.apply(resolvedId));
+        if (!slug.equals(report.getSlug())) {
+            // Renamed between the id lookup and the load
+            throw new IllegalArgumentException("Report not found with slug: " + slug);
+        }
+        return report;
+    }
+
+    public void evict(Long reportId) {
+        reports.invalidate(reportId);
+    }
+
+    /**
+     * Evict once the current transaction commits, so a concurrent reader cannot
+     * re-cache the state from before the change.
+     */
+    public void evictAfterCommit(Long reportId) {
+        TransactionUtil.afterCommit(() -> evict(reportId));
+    }
+
+    private CachedReport toCached(ReportDto report) {
+        try {
+            return new CachedReport(
+                objectMapper.writeValueAsBytes(report),
+                report.getSlug(),
+                reportViewCounter.recordedViews(report.getId())
+            );
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to serialize report " + report.getId(), e);
+        }
+    }
+
+    private ReportDto fromCached(CachedReport cached) {
+        try {
+            ReportDto report = objectMapper.readValue(cached.json, ReportDto.class);
+            // View counts keep moving while the entry is cached; add the views recorded since
+            report.setViewCount(report.getViewCount()
+                + reportViewCounter.recordedViews(report.getId()) - cached.recordedViews);
+            return report;
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to deserialize cached report", e);
+        }
+    }
+
+    private static class CachedReport {
+        private final byte[] json;
+        private final String slug;
+        private final long recordedViews;
+
+        private CachedReport(byte[] json, String slug, long recordedViews) {
+            this.json = json;
+            this.slug = slug;
+            this.recordedViews = recordedViews;
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.slm.backend.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.slm.backend.dto.report.ReportExportFormat;
+import com.slm.backend.dto.report.ReportExportRow;
+import com.slm.backend.dto.report.ReportFilter;
+import com.slm.backend.repository.ReportRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Streams reports matching a filter as NDJSON or CSV.
+ * Rows are read through a forward-only cursor and written as they arrive, so memory use
+ * stays constant whatever the number of reports: only scalar columns are selected (no
+ * entities accumulate in the persistence context), and tags are looked up per chunk.
+ */
+@Slf4j
+@Service
+public class ReportExportService {
+
+    private static final String[] CSV_HEADER = {
+        "id", "title", "slug", "excerpt", "content", "status", "authorEmail", "category", "tags",
+        "publishedAt", "featuredImage", "viewCount", "createdAt", "updatedAt"
+    };
+
+    // Separates tag slugs in the CSV tags column; slugs never contain it
+    private static final String CSV_TAG_SEPARATOR = "|";
+
+    private final ReportRepository reportRepository;
+    private final ObjectWriter rowWriter;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int fetchSize;
+
+    public ReportExportService(ReportRepository reportRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${app.export.fetch-size:500}") int fetchSize) {
+        this.reportRepository = reportRepository;
+        this.rowWriter = objectMapper.writerFor(ReportExportRow.class)
+            .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+            // Flushing each row would send every row as its own chunk
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+            .withRootValueSeparator("\n");
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Write every report matching the filter to the output, in id order. The output is not closed.
+     */
+    public void export(ReportFilter filter, ReportExportFormat format, OutputStream output) throws IOException {
+        long start = System.currentTimeMillis();
+        RowWriter writer = format == ReportExportFormat.CSV ? new CsvRowWriter(output) : new NdjsonRowWriter(output);
+
+        long exported;
+        try {
+            exported = readOnlyTransaction.execute(status -> {
+                try (Stream<ReportExportRow> rows = reportRepository.streamForExport(filter, fetchSize)) {
+                    return writeInChunks(rows, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Usually the client going away mid-download
+            throw e.getCause();
+        }
+        writer.finish();
+
+        log.info("Exported {} reports as {} in {} ms", exported, format, System.currentTimeMillis() - start);
+    }
+
+    private long writeInChunks(Stream<ReportExportRow> rows, RowWriter writer) throws IOException {
+        List<ReportExportRow> chunk = new ArrayList<>(fetchSize);
+        long count = 0;
+        for (var iterator = rows.iterator(); iterator.hasNext(); ) {
+            chunk.add(iterator.next());
+            if (chunk.size() == fetchSize) {
+                count += writeChunk(chunk, writer);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            count += writeChunk(chunk, writer);
+        }
+        return count;
+    }
+
+    private int writeChunk(List<ReportExportRow> chunk, RowWriter writer) throws IOException {
+        Map<Long, List<String>> tagsByReportId = new HashMap<>();
+        List<Long> ids = chunk.stream().map(ReportExportRow::getId).toList();
+        for (Object[] row : reportRepository.findTagSlugsByReportIdIn(ids)) {
+            tagsByReportId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+
+        for (ReportExportRow row : chunk) {
+            row.setTags(tagsByReportId.getOrDefault(row.getId(), List.of()));
+            writer.write(row);
+        }
+        return chunk.size();
+    }
+
+    private interface RowWriter {
+        void write(ReportExportRow row) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    private class NdjsonRowWriter implements RowWriter {
+
+        private final OutputStream output;
+        private final SequenceWriter sequence;
+        private boolean empty = true;
+
+        private NdjsonRowWriter(OutputStream output) throws IOException {
+            this.output = output;
+            this.sequence = rowWriter.writeValues(output);
+        }
+
+        @Override
+        public void write(ReportExportRow row) throws IOException {
+            sequence.write(row);
+            empty = false;
+        }
+
+        @Override
+        public void finish() throws IOException {
+            // Closing the sequence flushes it; the target stays open
+            sequence.close();
+            if (!empty) {
+                // The separator only goes between rows; end the last line too
+                output.write('\n');
+            }
+        }
+    }
+
+    /**
+     * RFC 4180: comma separated, CRLF line endings, fields quoted when they contain
+     * a comma, quote or line break, quotes doubled. Fields a spreadsheet would read as a
+     * formula (starting with =, +, -, @, tab or CR) are prefixed with a single quote.
+     */
+    private static class CsvRowWriter implements RowWriter {
+
+        private final Writer out;
+
+        private CsvRowWriter(OutputStream output) throws IOException {
+            this.out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writeRecord(CSV_HEADER);
+        }
+
+        @Override
+        public void write(ReportExportRow row) throws IOException {
+            writeRecord(
+                String.valueOf(row.getId()),
+                row.getTitle(),
+                row.getSlug(),
+                row.getExcerpt(),
+                row.getContent(),
+                row.getStatus(),
+                row.getAuthorEmail(),
+                row.getCategory(),
+                String.join(CSV_TAG_SEPARATOR, row.getTags()),
+                format(row.getPublishedAt()),
+                row.getFeaturedImage(),
+                String.valueOf(row.getViewCount()),
+                format(row.getCreatedAt()),
+                format(row.getUpdatedAt())
+            );
+        }
+
+        @Override
+        public void finish() throws IOException {
+            out.flush();
+        }
+
+        private void writeRecord(String... fields) throws IOException {
+            for (int i = 0; i < fields.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                writeField(fields[i]);
+            }
+            out.write("\r\n");
+        }
+
+        private void writeField(String value) throws IOException {
+            if (value == null) {
+                return;
+            }
+            if (!value.isEmpty() && isFormulaStart(value.charAt(0))) {
+                value = "'" + value;
+            }
+            boolean quote = false;
+            for (int i = 0; i < value.length() && !quote; i++) {
+                char c = value.charAt(i);
+                quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+            }
+            if (!quote) {
+                out.write(value);
+                return;
+            }
+            out.write('"');
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"') {
+                    out.write('"');
+                }
+                out.write(c);
+            }
+            out.write('"');
+        }
+
+        private static boolean isFormulaStart(char c) {
+            return c == '=' || c == '+' || c == '-' || c == '@' || c == '\t' || c == '\r';
+        }
+
+        private static String format(LocalDateTime dateTime) {
+            return dateTime != null ? dateTime.toString() : null;
+        }
+    }
+}
@@ -0,0 +1,304 @@
+package com.slm.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.slm.backend.dto.CategoryDto;
+import com.slm.backend.dto.TagDto;
+import com.slm.backend.dto.report.ImportReportRow;
+import com.slm.backend.dto.report.ReportImportResult;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.CategoryRepository;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.TagRepository;
+import com.slm.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk report import from NDJSON (one report per line).
+ * The input is read line by line; authors, categories, tags and taken slugs are loaded
+ * once up front, and reports are inserted in JDBC batches with one transaction per chunk.
+ * When a chunk fails, its rows are retried one by one so only the offending rows fail.
+ */
+@Slf4j
+@Service
+public class ReportImportService {
+
+    private final ObjectReader rowReader;
+    private final Validator validator;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final TagRepository tagRepository;
+    private final ReportRepository reportRepository;
+    private final SlugService slugService;
+    private final TaxonomyService taxonomyService;
+    private final ReportSearchIndexer reportSearchIndexer;
+    private final ReportCountService reportCountService;
+    private final ReportListVersion reportListVersion;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxErrors;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public ReportImportService(ObjectMapper objectMapper,
+                               Validator validator,
+                               UserRepository userRepository,
+                               CategoryRepository categoryRepository,
+                               TagRepository tagRepository,
+                               ReportRepository reportRepository,
+                               SlugService slugService,
+                               TaxonomyService taxonomyService,
+                               ReportSearchIndexer reportSearchIndexer,
+                               ReportCountService reportCountService,
+                               ReportListVersion reportListVersion,
+                               TransactionTemplate transactionTemplate,
+                               @Value("${app.import.batch-size:500}") int batchSize,
+                               @Value("${app.import.max-errors:1000}") int maxErrors) {
+        this.rowReader = objectMapper.readerFor(ImportReportRow.class);
+        this.validator = validator;
+        this.userRepository = userRepository;
+        this.categoryRepository = categoryRepository;
+        this.tagRepository = tagRepository;
+        this.reportRepository = reportRepository;
+        this.slugService = slugService;
+        this.taxonomyService = taxonomyService;
+        this.reportSearchIndexer = reportSearchIndexer;
+        this.reportCountService = reportCountService;
+        this.reportListVersion = reportListVersion;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Import every line of the input. Rows without authorEmail are attributed to defaultAuthorEmail.
+     */
+    public ReportImportResult importReports(InputStream input, String defaultAuthorEmail) throws IOException {
+        long start = System.currentTimeMillis();
+        ReportImportResult result = ReportImportResult.builder().build();
+        ImportContext context = loadContext(defaultAuthorEmail);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<PendingReport> chunk = new ArrayList<>(batchSize);
+        int lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            result.setTotal(result.getTotal() + 1);
+            try {
+                chunk.add(prepare(lineNumber, line, context));
+            } catch (IllegalArgumentException e) {
+                fail(result, lineNumber, e.getMessage());
+            }
+            if (chunk.size() == batchSize) {
+                insertChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            insertChunk(chunk, result);
+        }
+
+        result.setDurationMs(System.currentTimeMillis() - start);
+        log.info("Imported {} of {} reports in {} ms", result.getImported(), result.getTotal(), result.getDurationMs());
+        return result;
+    }
+
+    private ImportContext loadContext(String defaultAuthorEmail) {
+        ImportContext context = new ImportContext();
+        context.authorIds = userRepository.findAll().stream()
+            .collect(Collectors.toMap(User::getEmail, User::getId));
+        context.categoryIds = taxonomyService.getCategories().stream()
+            .collect(Collectors.toMap(CategoryDto::getSlug, CategoryDto::getId));
+        context.tagIds = taxonomyService.getTags().stream()
+            .collect(Collectors.toMap(TagDto::getSlug, TagDto::getId));
+        context.slugs = slugService.loadTakenReportSlugs();
+        context.defaultAuthorEmail = defaultAuthorEmail;
+        return context;
+    }
+
+    /**
+     * Parse, validate and resolve one line. Throws IllegalArgumentException with the row's error.
+     */
+    private PendingReport prepare(int lineNumber, String line, ImportContext context) {
+        ImportReportRow row;
+        try {
+            row = rowReader.readValue(line);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+        if (row == null) {
+            throw new IllegalArgumentException("Expected a JSON object");
+        }
+
+        Set<ConstraintViolation<ImportReportRow>> violations = validator.validate(row);
+        if (!violations.isEmpty()) {
+            throw new IllegalArgumentException(violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", ")));
+        }
+
+        String authorEmail = row.getAuthorEmail() != null ? row.getAuthorEmail() : context.defaultAuthorEmail;
+        Long authorId = context.authorIds.get(authorEmail);
+        if (authorId == null) {
+            throw new IllegalArgumentException("Author not found: " + authorEmail);
+        }
+
+        Long categoryId = null;
+        if (row.getCategory() != null) {
+            categoryId = context.categoryIds.get(row.getCategory());
+            if (categoryId == null) {
+                throw new IllegalArgumentException("Category not found: " + row.getCategory());
+            }
+        }
+
+        Set<Long> tagIds = new LinkedHashSet<>();
+        if (row.getTags() != null) {
+            for (String tagSlug : row.getTags()) {
+                Long tagId = context.tagIds.get(tagSlug);
+                if (tagId == null) {
+                    throw new IllegalArgumentException("Tag not found: " + tagSlug);
+                }
+                tagIds.add(tagId);
+            }
+        }
+
+        Report.Status status = parseStatus(row.getStatus());
+        LocalDateTime publishedAt = row.getPublishedAt();
+        if (publishedAt == null && status == Report.Status.PUBLISHED) {
+            publishedAt = LocalDateTime.now();
+        }
+
+        // Claimed last, so rows failing validation don't take a slug
+        String slug = context.slugs.claim(row.getSlug() != null ? row.getSlug() : row.getTitle());
+
+        return new PendingReport(lineNumber, row, slug, status, publishedAt, authorId, categoryId, tagIds);
+    }
+
+    private void insertChunk(List<PendingReport> chunk, ReportImportResult result) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(chunk));
+            result.setImported(result.getImported() + chunk.size());
+        } catch (DataAccessException e) {
+            log.warn("Import chunk of {} rows failed, retrying row by row: {}", chunk.size(), e.getMessage());
+            for (PendingReport report : chunk) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insert(List.of(report)));
+                    result.setImported(result.getImported() + 1);
+                } catch (DataAccessException rowError) {
+                    fail(result, report.line, rowError.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Persist the reports; Hibernate writes them and their report_tags rows in JDBC batches.
+     * The chunk is detached once written: with open-in-view every chunk shares the request's
+     * EntityManager, which would otherwise hold (and dirty-check) every report imported so far.
+     */
+    private void insert(List<PendingReport> reports) {
+        List<Report> entities = new ArrayList<>(reports.size());
+        for (PendingReport pending : reports) {
+            Report report = Report.builder()
+                .title(pending.row.getTitle())
+                .slug(pending.slug)
+                .excerpt(pending.row.getExcerpt())
+                .content(pending.row.getContent())
+                .status(pending.status)
+                .publishedAt(pending.publishedAt)
+                .author(userRepository.getReferenceById(pending.authorId))
+                .category(pending.categoryId != null ? categoryRepository.getReferenceById(pending.categoryId) : null)
+                .featuredImage(pending.row.getFeaturedImage())
+                .build();
+            // Owning side only: Tag.reports would be loaded for every tag otherwise
+            for (Long tagId : pending.tagIds) {
+                report.getTags().add(tagRepository.getReferenceById(tagId));
+            }
+            entities.add(report);
+        }
+        for (Report report : reportRepository.saveAll(entities)) {
+            reportSearchIndexer.indexAfterCommit(report);
+            reportCountService.changedAfterCommit(null, ReportCountService.State.of(report));
+        }
+        reportListVersion.changedAfterCommit();
+        // Through the repository, so constraint violations still surface as DataAccessException
+        reportRepository.flush();
+        entityManager.clear();
+    }
+
+    private void fail(ReportImportResult result, int line, String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < maxErrors) {
+            result.getErrors().add(new ReportImportResult.RowError(line, message));
+        } else {
+            result.setErrorsTruncated(true);
+        }
+    }
+
+    private static Report.Status parseStatus(String status) {
+        if (status == null || status.isEmpty()) {
+            return Report.Status.DRAFT;
+        }
+        try {
+            return Report.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid status: " + status);
+        }
+    }
+
+    private static class ImportContext {
+        private Map<String, Long> authorIds;
+        private Map<String, Long> categoryIds;
+        private Map<String, Long> tagIds;
+        private SlugService.TakenSlugs slugs;
+        private String defaultAuthorEmail;
+    }
+
+    private static class PendingReport {
+        private final int line;
+        private final ImportReportRow row;
+        private final String slug;
+        private final Report.Status status;
+        private final LocalDateTime publishedAt;
+        private final Long authorId;
+        private final Long categoryId;
+        private final Set<Long> tagIds;
+
+        private PendingReport(int line, ImportReportRow row, String slug, Report.Status status,
+                              LocalDateTime publishedAt, Long authorId, Long categoryId, Set<Long> tagIds) {
+            this.line = line;
+            this.row = row;
+            this.slug = slug;
+            this.status = status;
+            this.publishedAt = publishedAt;
+            this.authorId = authorId;
+            this.categoryId = categoryId;
+            this.tagIds = tagIds;
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.CollectionVersion;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.util.TransactionUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+/**
+ * Version of the public report lists, kept in memory so validating a cached list costs no query.
+ * Every change that can show in a list (reports, their images, tags and categories) moves it
+ * after commit. Changes made by another instance are picked up by a periodic check of the
+ * reports and taxonomy tables, which bounds how long they can be answered with 304 Not Modified.
+ * Recorded views are not counted per view, which would invalidate every cached list on each
+ * page view; the check moves the version when views were recorded since the last one, so
+ * view counts in cached lists are at most one check interval old.
+ */
+@Slf4j
+@Service
+public class ReportListVersion implements SmartInitializingSingleton {
+
+    private final ReportRepository reportRepository;
+    private final ReportViewCounter reportViewCounter;
+
+    // Number of changes and the time of the latest; starts at startup, so versions of
+    // another instance or an earlier run never match
+    private long changes;
+    private LocalDateTime lastModified = LocalDateTime.now();
+
+    private CollectionVersion lastChecked;
+    private long lastCheckedViews;
+
+    public ReportListVersion(ReportRepository reportRepository, ReportViewCounter reportViewCounter) {
+        this.reportRepository = reportRepository;
+        this.reportViewCounter = reportViewCounter;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        check();
+    }
+
+    public synchronized CollectionVersion current() {
+        return new CollectionVersion(changes, lastModified);
+    }
+
+    /**
+     * Move the version once the current transaction commits, so a list cached in between
+     * is not validated against the new version.
+     */
+    public void changedAfterCommit() {
+        TransactionUtil.afterCommit(this::changed);
+    }
+
+    /**
+     * Moves the version when the tables changed since the last check, e.g. through another
+     * instance, or when views were recorded.
+     */
+    @Scheduled(fixedDelayString = "${app.report-lists.version-check-interval-ms:60000}",
+        initialDelayString = "${app.report-lists.version-check-interval-ms:60000}")
+    public void check() {
+        CollectionVersion stored = reportRepository.findCollectionVersion();
+        long views = reportViewCounter.recordedViews();
+        boolean moved;
+        synchronized (this) {
+            moved = lastChecked != null
+                && (!stored.asVersion().equals(lastChecked.asVersion()) || views != lastCheckedViews);
+            lastChecked = stored;
+            lastCheckedViews = views;
+        }
+        if (moved) {
+            log.debug("Report lists changed since the last check: {}", stored.asVersion());
+            changed();
+        }
+    }
+
+    private synchronized void changed() {
+        changes++;
+        lastModified = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,39 @@
+package com.slm.backend.service;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Full-text index over report title, excerpt and content.
+ * Search returns ranked ids that are then fed into the regular report filter queries,
+ * so implementations only need to answer text queries.
+ */
+public interface ReportSearchIndex {
+
+    /**
+     * Add or replace the indexed text of a report.
+     */
+    void index(Long reportId, String title, String excerpt, String content);
+
+    void remove(Long reportId);
+
+    void clear();
+
+    /**
+     * Ids of all indexed reports.
+     */
+    Set<Long> indexedIds();
+
+    /**
+     * Ids of reports matching every term of the query, best match first.
+     * The last term also matches as a prefix so partially typed words find results.
+     */
+    List<Long> search(String query);
+
+    /**
+     * Highlighted title or text snippet for each given report that matches the query.
+     */
+    Map<Long, String> highlights(Collection<Long> reportIds, String query);
+}
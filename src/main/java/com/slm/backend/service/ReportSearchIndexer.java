@@ -0,0 +1,111 @@
+package com.slm.backend.service;
+
+import com.slm.backend.entity.Report;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps the ReportSearchIndex in sync with the database: loads every report
+ * before the application starts serving requests and applies changes after commit.
+ * Changes made by another instance are picked up periodically: reports updated since
+ * the last refresh are reindexed, and a slower check removes deleted reports.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReportSearchIndexer implements SmartInitializingSingleton {
+
+    private static final int BATCH_SIZE = 500;
+
+    // updatedAt is set before commit, so a refresh also rereads changes from shortly before
+    // the previous one; reindexing a report is idempotent
+    private static final Duration REFRESH_OVERLAP = Duration.ofMinutes(1);
+
+    private final ReportRepository reportRepository;
+    private final ReportSearchIndex reportSearchIndex;
+
+    // Start of the last rebuild or refresh; null until the index is first built
+    private LocalDateTime refreshedAt;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+        LocalDateTime started = LocalDateTime.now();
+        reportSearchIndex.clear();
+
+        long lastId = 0L;
+        int indexed = 0;
+        List<Object[]> rows;
+        do {
+            rows = reportRepository.findSearchDocumentsAfter(lastId, PageRequest.ofSize(BATCH_SIZE));
+            for (Object[] row : rows) {
+                lastId = (Long) row[0];
+                reportSearchIndex.index(lastId, (String) row[1], (String) row[2], (String) row[3]);
+            }
+            indexed += rows.size();
+        } while (rows.size() == BATCH_SIZE);
+
+        refreshedAt = started;
+        log.info("Indexed {} reports for search in {} ms", indexed, System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Reindex reports updated since the last refresh, e.g. through another instance.
+     */
+    @Scheduled(fixedDelayString = "${app.search.refresh-interval-ms:60000}",
+        initialDelayString = "${app.search.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        if (refreshedAt == null) {
+            return;
+        }
+        LocalDateTime started = LocalDateTime.now();
+        List<Object[]> rows = reportRepository.findSearchDocumentsUpdatedAfter(refreshedAt.minus(REFRESH_OVERLAP));
+        for (Object[] row : rows) {
+            reportSearchIndex.index((Long) row[0], (String) row[1], (String) row[2], (String) row[3]);
+        }
+        refreshedAt = started;
+        log.debug("Reindexed {} updated reports", rows.size());
+    }
+
+    /**
+     * Remove reports that no longer exist, e.g. deleted through another instance.
+     */
+    @Scheduled(fixedDelayString = "${app.search.deleted-check-interval-ms:600000}",
+        initialDelayString = "${app.search.deleted-check-interval-ms:600000}")
+    public synchronized void removeDeleted() {
+        // Ids are taken before the query, so reports indexed meanwhile are never removed
+        Set<Long> deleted = reportSearchIndex.indexedIds();
+        reportRepository.findAllIds().forEach(deleted::remove);
+        deleted.forEach(reportSearchIndex::remove);
+        if (!deleted.isEmpty()) {
+            log.debug("Removed {} deleted reports from the search index", deleted.size());
+        }
+    }
+
+    public void indexAfterCommit(Report report) {
+        indexAfterCommit(report.getId(), report.getTitle(), report.getExcerpt(), report.getContent());
+    }
+
+    public void indexAfterCommit(Long id, String title, String excerpt, String content) {
+        TransactionUtil.afterCommit(() -> reportSearchIndex.index(id, title, excerpt, content));
+    }
+
+    public void removeAfterCommit(Long reportId) {
+        TransactionUtil.afterCommit(() -> reportSearchIndex.remove(reportId));
+    }
+}
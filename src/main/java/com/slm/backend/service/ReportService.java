@@ -1,5 +1,6 @@
 package com.slm.backend.service;
 
+import com.slm.backend.dto.CollectionVersion;
 import com.slm.backend.dto.report.*;
 import com.slm.backend.entity.*;
 import com.slm.backend.repository.*;
@@ -10,26 +11,40 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.text.Normalizer;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ReportService {
 
+    // Sort value that orders search results by their full-text rank
+    private static final String SORT_RELEVANCE = "relevance";
+
+    // tagMatch=all adds one subquery per tag
+    private static final int MAX_ALL_TAG_IDS = 10;
+
     private final ReportRepository reportRepository;
     private final CategoryRepository categoryRepository;
     private final TagRepository tagRepository;
     private final UserRepository userRepository;
     private final ReportImageRepository reportImageRepository;
     private final ImageService imageService;
+    private final ReportViewCounter reportViewCounter;
+    private final ReportSearchIndex reportSearchIndex;
+    private final ReportSearchIndexer reportSearchIndexer;
+    private final ReportDetailCache reportDetailCache;
+    private final TransactionTemplate transactionTemplate;
+    private final SlugService slugService;
+    private final TaxonomyService taxonomyService;
+    private final ReportCountService reportCountService;
+    private final ReportListVersion reportListVersion;
 
     @Transactional(readOnly = true)
-    public ReportListResponse getReports(
+    public ReportListResponse<?> getReports(
             Integer page,
             Integer pageSize,
             String search,
@@ -37,10 +52,12 @@ public class ReportService {
             Long authorId,
             String status,
             List<Long> tagIds,
+            TagMatch tagMatch,
             LocalDateTime dateFrom,
             LocalDateTime dateTo,
             String sortBy,
-            String sortOrder
+            String sortOrder,
+            ReportView view
     ) {
         int pageNum = page != null ? page : 0;
         int size = pageSize != null && pageSize > 0 ? pageSize : 10;
@@ -48,56 +65,162 @@ public class ReportService {
         String sortField = sortBy != null ? sortBy : "createdAt";
         Sort.Direction direction = "asc".equalsIgnoreCase(sortOrder) ? Sort.Direction.ASC : Sort.Direction.DESC;
 
-        Pageable pageable = PageRequest.of(pageNum, size, Sort.by(direction, sortField));
+        List<Long> searchHits = searchIndex(search);
+        ReportFilter filter = buildFilter(searchHits, categoryId, authorId, status, tagIds, tagMatch, dateFrom, dateTo);
 
-        Report.Status reportStatus = null;
-        if (status != null && !status.isEmpty()) {
-            try {
-                reportStatus = Report.Status.valueOf(status.toUpperCase());
-            } catch (IllegalArgumentException e) {
-                // Invalid status, ignore filter
+        if (SORT_RELEVANCE.equals(sortField)) {
+            if (searchHits != null) {
+                return getReportsByRelevance(searchHits, filter, search, pageNum, size, view);
             }
+            // Relevance is meaningless without a search term
+            sortField = "createdAt";
+        }
+        if (!ReportRepositoryCustom.SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Unsupported sort field: " + sortField);
         }
 
-        // Convert empty tagIds list to null for query
-        List<Long> effectiveTagIds = (tagIds != null && !tagIds.isEmpty()) ? tagIds : null;
+        Pageable pageable = PageRequest.of(pageNum, size, Sort.by(direction, sortField));
 
-        Page<Report> reportPage = reportRepository.findWithFilters(
-            reportStatus,
-            categoryId,
-            authorId,
-            search,
-            effectiveTagIds,
-            dateFrom,
-            dateTo,
-            pageable
-        );
+        Page<Long> idPage = reportRepository.findIdsWithFilters(filter, pageable);
 
-        List<ReportDto> reports = reportPage.getContent().stream()
-            .map(this::mapToDto)
-            .collect(Collectors.toList());
+        return listResponse(load(idPage.getContent(), view))
+            .total(idPage.getTotalElements())
+            .page(pageNum)
+            .pageSize(size)
+            .totalPages(idPage.getTotalPages())
+            .highlights(highlights(idPage.getContent(), search))
+            .build();
+    }
 
-        return ReportListResponse.builder()
-            .reports(reports)
-            .total(reportPage.getTotalElements())
+    /**
+     * Page through search hits in index rank order. The database only narrows the ranked
+     * ids down to those matching the other filters.
+     */
+    private ReportListResponse<?> getReportsByRelevance(
+            List<Long> searchHits,
+            ReportFilter filter,
+            String search,
+            int pageNum,
+            int size,
+            ReportView view
+    ) {
+        Set<Long> matching = new HashSet<>(reportRepository.findIdsWithFilters(filter));
+        List<Long> ranked = searchHits.stream().filter(matching::contains).collect(Collectors.toList());
+
+        int from = (int) Math.min((long) pageNum * size, ranked.size());
+        List<Long> ids = ranked.subList(from, Math.min(from + size, ranked.size()));
+
+        return listResponse(load(ids, view))
+            .total((long) ranked.size())
             .page(pageNum)
             .pageSize(size)
-            .totalPages(reportPage.getTotalPages())
+            .totalPages((int) Math.ceil((double) ranked.size() / size))
+            .highlights(highlights(ids, search))
             .build();
     }
 
+    /**
+     * Get reports using keyset (cursor) pagination.
+     * Seeks past the cursor position on (sortBy, id) instead of using OFFSET,
+     * and only runs the count query when includeTotal is set.
+     */
     @Transactional(readOnly = true)
+    public ReportListResponse<?> getReportsByCursor(
+            String cursor,
+            Integer pageSize,
+            String search,
+            Long categoryId,
+            Long authorId,
+            String status,
+            List<Long> tagIds,
+            TagMatch tagMatch,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo,
+            String sortBy,
+            String sortOrder,
+            boolean includeTotal,
+            ReportView view
+    ) {
+        int size = pageSize != null && pageSize > 0 ? pageSize : 10;
+
+        String sortField = sortBy != null ? sortBy : "createdAt";
+        Sort.Direction direction = "asc".equalsIgnoreCase(sortOrder) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        if (!ReportRepositoryCustom.KEYSET_SORT_FIELDS.contains(sortField)) {
+            throw new IllegalArgumentException("Unsupported sort field for cursor pagination: " + sortField);
+        }
+
+        ReportCursor after = null;
+        if (cursor != null && !cursor.isEmpty()) {
+            after = ReportCursor.decode(cursor);
+            if (!after.getSortField().equals(sortField)) {
+                throw new IllegalArgumentException("Cursor does not match sort field: " + sortField);
+            }
+        }
+
+        ReportFilter filter = buildFilter(searchIndex(search), categoryId, authorId, status, tagIds, tagMatch, dateFrom, dateTo);
+
+        // Fetch one extra key to know whether another page exists
+        List<ReportCursor> keys = reportRepository.findKeysAfter(filter, sortField, direction, after, size + 1);
+        boolean hasMore = keys.size() > size;
+        if (hasMore) {
+            keys = keys.subList(0, size);
+        }
+
+        List<Long> ids = keys.stream().map(ReportCursor::getId).collect(Collectors.toList());
+
+        Long total = includeTotal ? reportRepository.countWithFilters(filter) : null;
+
+        return listResponse(load(ids, view))
+            .total(total)
+            .page(0)
+            .pageSize(size)
+            .totalPages(total != null ? (int) Math.ceil((double) total / size) : null)
+            .nextCursor(hasMore ? keys.get(keys.size() - 1).encode() : null)
+            .hasMore(hasMore)
+            .highlights(highlights(ids, search))
+            .build();
+    }
+
+    /**
+     * Filter for the list parameters, with the search text resolved through the search index.
+     * For reading reports outside the list endpoints, e.g. exports.
+     */
+    public ReportFilter filterFor(
+            String search,
+            Long categoryId,
+            Long authorId,
+            String status,
+            List<Long> tagIds,
+            TagMatch tagMatch,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo
+    ) {
+        return buildFilter(searchIndex(search), categoryId, authorId, status, tagIds, tagMatch, dateFrom, dateTo);
+    }
+
+    /**
+     * Served from ReportDetailCache; a transaction is only opened on a cache miss.
+     */
     public ReportDto getReportById(Long id) {
-        Report report = reportRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + id));
-        return mapToDto(report);
+        return reportDetailCache.getById(id, () -> loadReport(id));
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Served from ReportDetailCache; a transaction is only opened on a cache miss.
+     */
     public ReportDto getReportBySlug(String slug) {
-        Report report = reportRepository.findBySlug(slug)
-            .orElseThrow(() -> new IllegalArgumentException("Report not found with slug: " + slug));
-        return mapToDto(report);
+        return reportDetailCache.getBySlug(slug,
+            () -> reportRepository.findIdBySlug(slug)
+                .orElseThrow(() -> new IllegalArgumentException("Report not found with slug: " + slug)),
+            this::loadReport);
+    }
+
+    private ReportDto loadReport(Long id) {
+        return transactionTemplate.execute(status -> {
+            Report report = reportRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + id));
+            return mapToDto(report);
+        });
     }
 
     @Transactional
@@ -105,7 +228,7 @@ public class ReportService {
         User author = userRepository.findByEmail(authorEmail)
             .orElseThrow(() -> new IllegalArgumentException("Author not found"));
 
-        String slug = generateSlug(request.getTitle());
+        String slug = slugService.generateReportSlug(request.getTitle());
 
         Report report = Report.builder()
             .title(request.getTitle())
@@ -121,16 +244,12 @@ public class ReportService {
 
         // Set category if provided
         if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("Category not found"));
-            report.setCategory(category);
+            report.setCategory(categoryReference(request.getCategoryId()));
         }
 
         // Set tags if provided
-        if (request.getTagIds() != null && !request.getTagIds().isEmpty()) {
-            Set<Long> tagIdSet = new HashSet<>(request.getTagIds());
-            List<Tag> tags = tagRepository.findByIdIn(tagIdSet);
-            tags.forEach(report::addTag);
+        if (request.getTagIds() != null) {
+            addTagReferences(report, request.getTagIds());
         }
 
         // Set published date if status is PUBLISHED
@@ -139,6 +258,9 @@ public class ReportService {
         }
 
         report = reportRepository.save(report);
+        reportSearchIndexer.indexAfterCommit(report);
+        reportCountService.changedAfterCommit(null, ReportCountService.State.of(report));
+        reportListVersion.changedAfterCommit();
         return mapToDto(report);
     }
 
@@ -146,11 +268,12 @@ public class ReportService {
     public ReportDto updateReport(Long id, UpdateReportRequest request) {
         Report report = reportRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + id));
+        ReportCountService.State countedBefore = ReportCountService.State.of(report);
 
         if (request.getTitle() != null) {
             report.setTitle(request.getTitle());
             // Update slug only if title changes
-            report.setSlug(generateSlug(request.getTitle()));
+            report.setSlug(slugService.generateReportSlug(request.getTitle()));
         }
 
         if (request.getExcerpt() != null) {
@@ -171,20 +294,16 @@ public class ReportService {
         }
 
         if (request.getCategoryId() != null) {
-            Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new IllegalArgumentException("Category not found"));
-            report.setCategory(category);
+            report.setCategory(categoryReference(request.getCategoryId()));
         }
 
         if (request.getTagIds() != null) {
+            // Collection changes alone do not trigger auditing, so touch updatedAt explicitly
+            report.setUpdatedAt(LocalDateTime.now());
             // Clear existing tags
             report.getTags().clear();
             // Add new tags
-            if (!request.getTagIds().isEmpty()) {
-                Set<Long> tagIdSet = new HashSet<>(request.getTagIds());
-                List<Tag> tags = tagRepository.findByIdIn(tagIdSet);
-                tags.forEach(report::addTag);
-            }
+            addTagReferences(report, request.getTagIds());
         }
 
         if (request.getFeaturedImage() != null) {
@@ -196,28 +315,42 @@ public class ReportService {
         }
 
         report = reportRepository.save(report);
+        reportSearchIndexer.indexAfterCommit(report);
+        reportDetailCache.evictAfterCommit(id);
+        reportCountService.changedAfterCommit(countedBefore, ReportCountService.State.of(report));
+        reportListVersion.changedAfterCommit();
         return mapToDto(report);
     }
 
     @Transactional
     public void deleteReport(Long id) {
-        if (!reportRepository.existsById(id)) {
-            throw new IllegalArgumentException("Report not found with id: " + id);
-        }
+        Report report = reportRepository.findById(id)
+            .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + id));
+        ReportCountService.State countedBefore = ReportCountService.State.of(report);
+
         // Soft-delete the report folder (rename to deleted-{id})
         imageService.softDeleteReportFolder(id);
-        reportRepository.deleteById(id);
+        reportRepository.delete(report);
+        reportCountService.changedAfterCommit(countedBefore, null);
+        reportListVersion.changedAfterCommit();
+        reportViewCounter.discardAfterCommit(id);
+        reportSearchIndexer.removeAfterCommit(id);
+        reportDetailCache.evictAfterCommit(id);
     }
 
     @Transactional
     public ReportDto publishReport(Long id) {
         Report report = reportRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + id));
+        ReportCountService.State countedBefore = ReportCountService.State.of(report);
 
         report.setStatus(Report.Status.PUBLISHED);
         report.setPublishedAt(LocalDateTime.now());
 
         report = reportRepository.save(report);
+        reportDetailCache.evictAfterCommit(id);
+        reportCountService.changedAfterCommit(countedBefore, ReportCountService.State.of(report));
+        reportListVersion.changedAfterCommit();
         return mapToDto(report);
     }
 
@@ -225,28 +358,41 @@ public class ReportService {
     public ReportDto archiveReport(Long id) {
         Report report = reportRepository.findById(id)
             .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + id));
+        ReportCountService.State countedBefore = ReportCountService.State.of(report);
 
         report.setStatus(Report.Status.ARCHIVED);
 
         report = reportRepository.save(report);
+        reportDetailCache.evictAfterCommit(id);
+        reportCountService.changedAfterCommit(countedBefore, ReportCountService.State.of(report));
+        reportListVersion.changedAfterCommit();
         return mapToDto(report);
     }
 
-    @Transactional
+    /**
+     * Record a view. The increment is buffered by ReportViewCounter and written
+     * to the database in batches, so only an existence check hits the database here.
+     */
+    @Transactional(readOnly = true)
     public void incrementViewCount(Long id) {
-        Report report = reportRepository.findById(id)
-            .orElseThrow(() -> new IllegalArgumentException("Report not found with id: " + id));
-        report.setViewCount(report.getViewCount() + 1);
-        reportRepository.save(report);
+        if (!reportRepository.existsById(id)) {
+            throw new IllegalArgumentException("Report not found with id: " + id);
+        }
+        reportViewCounter.increment(id);
+    }
+
+    /**
+     * Version of the public report lists, used to validate cached responses.
+     * Kept in memory by {@link ReportListVersion}, so validating a list costs no query.
+     */
+    public CollectionVersion getCollectionVersion() {
+        return reportListVersion.current();
     }
 
     @Transactional(readOnly = true)
-    public List<ReportDto> getLatestPublished(int limit) {
+    public List<?> getLatestPublished(int limit, ReportView view) {
         Pageable pageable = PageRequest.of(0, limit);
-        List<Report> reports = reportRepository.findLatestPublished(Report.Status.PUBLISHED, pageable);
-        return reports.stream()
-            .map(this::mapToDto)
-            .collect(Collectors.toList());
+        return load(reportRepository.findLatestPublishedIds(Report.Status.PUBLISHED, pageable), view);
     }
 
     /**
@@ -254,7 +400,7 @@ public class ReportService {
      * ADMIN sees all reports, other roles see only their own
      */
     @Transactional(readOnly = true)
-    public ReportListResponse getMyReports(
+    public ReportListResponse<?> getMyReports(
             String email,
             String role,
             Integer page,
@@ -262,7 +408,8 @@ public class ReportService {
             String search,
             String status,
             String sortBy,
-            String sortOrder
+            String sortOrder,
+            ReportView view
     ) {
         Long authorId = null;
         if (!"ADMIN".equals(role)) {
@@ -271,7 +418,7 @@ public class ReportService {
                 .orElseThrow(() -> new IllegalArgumentException("User not found"));
             authorId = user.getId();
         }
-        return getReports(page, pageSize, search, null, authorId, status, null, null, null, sortBy, sortOrder);
+        return getReports(page, pageSize, search, null, authorId, status, null, null, null, null, sortBy, sortOrder, view);
     }
 
     private Report.Status parseStatus(String status) {
@@ -285,47 +432,154 @@ public class ReportService {
         }
     }
 
-    private String generateSlug(String title) {
-        if (title == null || title.isEmpty()) {
-            return UUID.randomUUID().toString();
+    /**
+     * Category validated against the taxonomy snapshot, as an unloaded reference.
+     */
+    private Category categoryReference(Long categoryId) {
+        if (taxonomyService.findCategory(categoryId).isEmpty()) {
+            throw new IllegalArgumentException("Category not found");
         }
+        return categoryRepository.getReferenceById(categoryId);
+    }
 
-        // Normalize and remove diacritics
-        String normalized = Normalizer.normalize(title, Normalizer.Form.NFD);
-        Pattern pattern = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
-        String slug = pattern.matcher(normalized).replaceAll("");
+    /**
+     * Add the tags as unloaded references. Ids unknown to the taxonomy snapshot are skipped.
+     * Only the owning side is updated, which would otherwise load every tag's reports.
+     */
+    private void addTagReferences(Report report, Collection<Long> tagIds) {
+        for (Long tagId : new LinkedHashSet<>(tagIds)) {
+            if (taxonomyService.findTag(tagId).isPresent()) {
+                report.getTags().add(tagRepository.getReferenceById(tagId));
+            }
+        }
+    }
 
-        // Convert to lowercase and replace non-alphanumeric with hyphens
-        slug = slug.toLowerCase()
-            .replaceAll("[^a-z0-9\\s-]", "")
-            .replaceAll("[\\s]+", "-")
-            .replaceAll("-+", "-")
-            .replaceAll("^-|-$", "");
+    /**
+     * Ranked ids matching the search text, or null when no search was requested.
+     */
+    private List<Long> searchIndex(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        return reportSearchIndex.search(search);
+    }
 
-        // Ensure uniqueness
-        String baseSlug = slug;
-        int counter = 1;
-        while (reportRepository.existsBySlug(slug)) {
-            slug = baseSlug + "-" + counter++;
+    private Map<Long, String> highlights(List<Long> ids, String search) {
+        if (search == null || search.isBlank()) {
+            return null;
         }
+        return reportSearchIndex.highlights(ids, search);
+    }
 
-        return slug;
+    private ReportFilter buildFilter(
+            List<Long> searchHits,
+            Long categoryId,
+            Long authorId,
+            String status,
+            List<Long> tagIds,
+            TagMatch tagMatch,
+            LocalDateTime dateFrom,
+            LocalDateTime dateTo
+    ) {
+        if (tagMatch == TagMatch.ALL && tagIds != null && new HashSet<>(tagIds).size() > MAX_ALL_TAG_IDS) {
+            throw new IllegalArgumentException("tagMatch=all accepts at most " + MAX_ALL_TAG_IDS + " tagIds");
+        }
+        return ReportFilter.builder()
+            .status(parseStatusFilter(status))
+            .categoryId(categoryId)
+            .authorId(authorId)
+            .ids(searchHits)
+            .tagIds(tagIds)
+            .tagMatch(tagMatch)
+            .dateFrom(dateFrom)
+            .dateTo(dateTo)
+            .build();
+    }
+
+    /**
+     * Load the representation requested by the view for a page of ids.
+     */
+    private List<?> load(List<Long> ids, ReportView view) {
+        if (view == ReportView.SUMMARY) {
+            List<ReportSummaryDto> summaries = reportRepository.findSummariesByIdIn(ids);
+            summaries.forEach(summary -> summary.setViewCount(
+                summary.getViewCount() + reportViewCounter.pendingViews(summary.getId())
+            ));
+            return summaries;
+        }
+        return hydrate(ids);
+    }
+
+    private static <T> ReportListResponse.ReportListResponseBuilder<T> listResponse(List<T> reports) {
+        return ReportListResponse.<T>builder().reports(reports);
+    }
+
+    /**
+     * Second phase of the list queries: load the reports for a page of ids with a fixed
+     * number of batched queries (reports with author and category, tags, images)
+     * and map them to DTOs in the order of the given ids.
+     */
+    private List<ReportDto> hydrate(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Report> reportsById = reportRepository.findAllWithAuthorAndCategoryByIdIn(ids).stream()
+            .collect(Collectors.toMap(Report::getId, report -> report));
+
+        Map<Long, List<Tag>> tagsByReportId = new HashMap<>();
+        for (Object[] row : reportRepository.findTagsByReportIdIn(ids)) {
+            tagsByReportId.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((Tag) row[1]);
+        }
+
+        Map<Long, List<ReportImage>> imagesByReportId = reportImageRepository.findByReportIdInOrderByDisplayOrderAsc(ids)
+            .stream()
+            .collect(Collectors.groupingBy(image -> image.getReport().getId()));
+
+        return ids.stream()
+            .map(reportsById::get)
+            .filter(Objects::nonNull)
+            .map(report -> mapToDto(
+                report,
+                tagsByReportId.getOrDefault(report.getId(), List.of()),
+                imagesByReportId.getOrDefault(report.getId(), List.of())
+            ))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Parse a status used as a list filter. Unknown values disable the filter.
+     */
+    private Report.Status parseStatusFilter(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return Report.Status.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            // Invalid status, ignore filter
+            return null;
+        }
     }
 
     private ReportDto mapToDto(Report report) {
+        return mapToDto(report, report.getTags(), report.getImages());
+    }
+
+    private ReportDto mapToDto(Report report, Collection<Tag> tags, List<ReportImage> images) {
         // Resolve featuredImage URL from featuredImageId if not directly set
         String featuredImageUrl = report.getFeaturedImage();
         if (featuredImageUrl == null && report.getFeaturedImageId() != null) {
             // Look up the image URL from the images list
-            featuredImageUrl = report.getImages().stream()
+            featuredImageUrl = images.stream()
                 .filter(img -> img.getId().equals(report.getFeaturedImageId()))
                 .map(ReportImage::getUrl)
                 .findFirst()
                 .orElse(null);
         }
         // If still no featured image but there are images, use the first one
-        if (featuredImageUrl == null && !report.getImages().isEmpty()) {
-            featuredImageUrl = report.getImages().stream()
+        if (featuredImageUrl == null && !images.isEmpty()) {
+            featuredImageUrl = images.stream()
                 .min(Comparator.comparingInt(ReportImage::getDisplayOrder))
                 .map(ReportImage::getUrl)
                 .orElse(null);
@@ -343,9 +597,10 @@ public class ReportService {
             .status(report.getStatus().name().toLowerCase())
             .author(mapAuthorToDto(report.getAuthor()))
             .category(report.getCategory() != null ? mapCategoryToDto(report.getCategory()) : null)
-            .tags(report.getTags().stream().map(this::mapTagToDto).collect(Collectors.toList()))
-            .images(report.getImages().stream().map(this::mapImageToDto).collect(Collectors.toList()))
-            .viewCount(report.getViewCount())
+            .tags(tags.stream().map(this::mapTagToDto).collect(Collectors.toList()))
+            .images(images.stream().map(this::mapImageToDto).collect(Collectors.toList()))
+            // Include views still buffered in memory
+            .viewCount(report.getViewCount() + reportViewCounter.pendingViews(report.getId()))
             .featuredImage(featuredImageUrl)
             .featuredImageId(report.getFeaturedImageId())
             .build();
@@ -359,22 +614,42 @@ public class ReportService {
             .build();
     }
 
+    /**
+     * Mapped from the taxonomy snapshot when possible, so a reference is not loaded just for its name.
+     */
     private ReportDto.CategoryDto mapCategoryToDto(Category category) {
-        return ReportDto.CategoryDto.builder()
-            .id(category.getId())
-            .name(category.getName())
-            .slug(category.getSlug())
-            .description(category.getDescription())
-            .color(category.getColor())
-            .build();
+        return taxonomyService.findCategory(category.getId())
+            .map(cached -> ReportDto.CategoryDto.builder()
+                .id(cached.getId())
+                .name(cached.getName())
+                .slug(cached.getSlug())
+                .description(cached.getDescription())
+                .color(cached.getColor())
+                .build())
+            .orElseGet(() -> ReportDto.CategoryDto.builder()
+                .id(category.getId())
+                .name(category.getName())
+                .slug(category.getSlug())
+                .description(category.getDescription())
+                .color(category.getColor())
+                .build());
     }
 
+    /**
+     * Mapped from the taxonomy snapshot when possible, so a reference is not loaded just for its name.
+     */
     private ReportDto.TagDto mapTagToDto(Tag tag) {
-        return ReportDto.TagDto.builder()
-            .id(tag.getId())
-            .name(tag.getName())
-            .slug(tag.getSlug())
-            .build();
+        return taxonomyService.findTag(tag.getId())
+            .map(cached -> ReportDto.TagDto.builder()
+                .id(cached.getId())
+                .name(cached.getName())
+                .slug(cached.getSlug())
+                .build())
+            .orElseGet(() -> ReportDto.TagDto.builder()
+                .id(tag.getId())
+                .name(tag.getName())
+                .slug(tag.getSlug())
+                .build());
     }
 
     private ReportDto.ReportImageDto mapImageToDto(ReportImage image) {
@@ -0,0 +1,146 @@
+package com.slm.backend.service;
+
+import com.slm.backend.util.TransactionUtil;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Write-behind buffer for report view counts.
+ * Views are absorbed in memory (one LongAdder per report) and written as aggregated
+ * deltas in a single batched UPDATE on a fixed delay and on shutdown, so a page view
+ * never loads or locks the report row.
+ */
+@Slf4j
+@Component
+public class ReportViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE reports SET view_count = view_count + ? WHERE id = ?";
+
+    // Entries are kept after a flush (reset to zero) so concurrent increments are never lost;
+    // the map is bounded by the number of existing reports
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+
+    // Views recorded per report since startup, flushed or not; never reset
+    private final Map<Long, LongAdder> recorded = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer flushTimer;
+    private final Counter flushedViews;
+
+    public ReportViewCounter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder("reports.views.pending", this, ReportViewCounter::pendingViews)
+            .description("Report views buffered in memory and not yet written to the database")
+            .register(meterRegistry);
+        this.flushTimer = Timer.builder("reports.views.flush")
+            .description("Time taken to write buffered view counts to the database")
+            .register(meterRegistry);
+        this.flushedViews = Counter.builder("reports.views.flushed")
+            .description("Report views written to the database")
+            .register(meterRegistry);
+    }
+
+    public void increment(Long reportId) {
+        pending.computeIfAbsent(reportId, id -> new LongAdder()).increment();
+        recorded.computeIfAbsent(reportId, id -> new LongAdder()).increment();
+    }
+
+    /**
+     * Views recorded for a report that have not been flushed yet.
+     */
+    public long pendingViews(Long reportId) {
+        LongAdder adder = pending.get(reportId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Views recorded for a report by this instance since startup. The difference between
+     * two readings is the number of views added in between, whether flushed or not.
+     */
+    public long recordedViews(Long reportId) {
+        LongAdder adder = recorded.get(reportId);
+        return adder != null ? adder.sum() : 0L;
+    }
+
+    /**
+     * Total views recorded by this instance since startup.
+     */
+    public long recordedViews() {
+        return recorded.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Total views waiting to be flushed across all reports.
+     */
+    public long pendingViews() {
+        return pending.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    /**
+     * Drop buffered views for a deleted report.
+     */
+    public void discard(Long reportId) {
+        pending.remove(reportId);
+        recorded.remove(reportId);
+    }
+
+    /**
+     * Drop buffered views for a report once its deletion has committed; a rolled-back
+     * delete keeps them.
+     */
+    public void discardAfterCommit(Long reportId) {
+        TransactionUtil.afterCommit(() -> discard(reportId));
+    }
+
+    @Scheduled(fixedDelayString = "${app.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Object[]> batch = new ArrayList<>();
+        pending.forEach((reportId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                batch.add(new Object[]{delta, reportId});
+            }
+        });
+
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(
+                status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch)
+            ));
+            flushedViews.increment(batch.stream().mapToLong(row -> (Long) row[0]).sum());
+        } catch (DataAccessException e) {
+            // Put the deltas back so they are retried on the next flush
+            log.warn("Failed to flush {} report view counts, will retry: {}", batch.size(), e.getMessage());
+            batch.forEach(row -> pending.computeIfAbsent((Long) row[1], id -> new LongAdder()).add((Long) row[0]));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+}
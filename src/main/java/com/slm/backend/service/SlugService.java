@@ -0,0 +1,170 @@
+package com.slm.backend.service;
+
+import com.slm.backend.repository.CategoryRepository;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.TagRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Unique URL slugs for reports, tags and categories.
+ * Uniqueness is resolved with one query per slug: all taken slugs starting with the base
+ * are fetched and the lowest free "-n" suffix is picked.
+ */
+@Service
+@RequiredArgsConstructor
+public class SlugService {
+
+    private final ReportRepository reportRepository;
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+
+    public String generateReportSlug(String title) {
+        return uniqueSlug(title, reportRepository::findSlugsStartingWith);
+    }
+
+    public String generateTagSlug(String name) {
+        return uniqueSlug(name, tagRepository::findSlugsStartingWith);
+    }
+
+    public String generateCategorySlug(String name) {
+        return uniqueSlug(name, categoryRepository::findSlugsStartingWith);
+    }
+
+    /**
+     * All report slugs, for bulk operations that resolve uniqueness in memory.
+     */
+    public TakenSlugs loadTakenReportSlugs() {
+        return new TakenSlugs(reportRepository.findAllSlugs());
+    }
+
+    /**
+     * Lowercase ASCII slug: diacritics are removed, runs of whitespace and hyphens become a
+     * single hyphen and any other character is dropped. Single pass over the decomposed text.
+     */
+    public static String toSlug(String text) {
+        if (text == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        char[] slug = new char[decomposed.length()];
+        int length = 0;
+        boolean pendingHyphen = false;
+
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c = (char) (c + ('a' - 'A'));
+            } else if (c > 0x7F && !isCombiningDiacritic(c)) {
+                c = Character.toLowerCase(c);
+            }
+
+            if ((c >= 'a' && c <= 'z') || (c >= '0' && c <= '9')) {
+                if (pendingHyphen && length > 0) {
+                    slug[length++] = '-';
+                }
+                pendingHyphen = false;
+                slug[length++] = c;
+            } else if (c == '-' || c == ' ' || (c >= '\t' && c <= '\r')) {
+                pendingHyphen = true;
+            }
+        }
+        return new String(slug, 0, length);
+    }
+
+    static String uniqueSlug(String text, Function<String, List<String>> takenSlugsStartingWith) {
+        String base = toSlug(text);
+        if (base.isEmpty()) {
+            // Nothing usable in the text (empty, or only non-Latin characters)
+            return UUID.randomUUID().toString();
+        }
+
+        List<String> taken = takenSlugsStartingWith.apply(base);
+        if (!taken.contains(base)) {
+            return base;
+        }
+
+        String prefix = base + "-";
+        BitSet usedSuffixes = new BitSet();
+        for (String slug : taken) {
+            int suffix = parseSuffix(slug, prefix);
+            if (suffix > 0) {
+                usedSuffixes.set(suffix);
+            }
+        }
+        return prefix + usedSuffixes.nextClearBit(1);
+    }
+
+    /**
+     * The n of "{prefix}{n}", or -1 when the slug has another shape (e.g. "base-2024-report",
+     * or "base-01", which does not take "base-1").
+     */
+    private static int parseSuffix(String slug, String prefix) {
+        if (!slug.startsWith(prefix) || slug.length() == prefix.length() || slug.length() - prefix.length() > 9
+            || slug.charAt(prefix.length()) == '0') {
+            return -1;
+        }
+        int suffix = 0;
+        for (int i = prefix.length(); i < slug.length(); i++) {
+            char c = slug.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            suffix = suffix * 10 + (c - '0');
+        }
+        return suffix;
+    }
+
+    private static boolean isCombiningDiacritic(char c) {
+        // The \p{InCombiningDiacriticalMarks} block
+        return c >= '\u0300' && c <= '\u036F';
+    }
+
+    /**
+     * Slugs taken so far, for generating many slugs without a query each.
+     * Not thread-safe.
+     */
+    public static final class TakenSlugs {
+
+        private final Set<String> slugs;
+
+        // Next suffix to try per base, so repeated titles don't rescan -1, -2, ...
+        private final Map<String, Integer> nextSuffixes = new HashMap<>();
+
+        TakenSlugs(Collection<String> slugs) {
+            this.slugs = new HashSet<>(slugs);
+        }
+
+        /**
+         * Unique slug for the text, which is then taken.
+         */
+        public String claim(String text) {
+            String base = toSlug(text);
+            if (base.isEmpty()) {
+                base = UUID.randomUUID().toString();
+            }
+            if (slugs.add(base)) {
+                return base;
+            }
+
+            int suffix = nextSuffixes.getOrDefault(base, 1);
+            String slug = base + "-" + suffix;
+            while (!slugs.add(slug)) {
+                slug = base + "-" + ++suffix;
+            }
+            nextSuffixes.put(base, suffix + 1);
+            return slug;
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.CategoryDto;
+import com.slm.backend.dto.CollectionVersion;
+import com.slm.backend.dto.TagDto;
+import com.slm.backend.entity.Category;
+import com.slm.backend.entity.Tag;
+import com.slm.backend.repository.CategoryRepository;
+import com.slm.backend.repository.TagRepository;
+import com.slm.backend.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * All tags and categories, held in memory as an immutable snapshot.
+ * Readers use whatever snapshot is current without locking; every change builds a new
+ * snapshot from a copy and swaps it in after commit. The snapshot is also reloaded
+ * periodically, which bounds staleness when another instance changed the taxonomy.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TaxonomyService implements SmartInitializingSingleton {
+
+    private final TagRepository tagRepository;
+    private final CategoryRepository categoryRepository;
+    private final ReportListVersion reportListVersion;
+
+    private volatile Snapshot snapshot = new Snapshot(tagEntries(List.of()), categoryEntries(List.of()));
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reload();
+    }
+
+    @Scheduled(fixedDelayString = "${app.taxonomy.refresh-interval-ms:300000}",
+        initialDelayString = "${app.taxonomy.refresh-interval-ms:300000}")
+    public synchronized void reload() {
+        snapshot = new Snapshot(
+            tagEntries(tagRepository.findAll().stream().map(TagDto::fromEntity).toList()),
+            categoryEntries(categoryRepository.findAll().stream().map(CategoryDto::fromEntity).toList())
+        );
+        log.debug("Loaded {} tags and {} categories", snapshot.tags.all.size(), snapshot.categories.all.size());
+    }
+
+    // ------------------------------------------------------------------ tags
+
+    /**
+     * All tags in id order.
+     */
+    public List<TagDto> getTags() {
+        return snapshot.tags.all;
+    }
+
+    public Optional<TagDto> findTag(Long id) {
+        return Optional.ofNullable(snapshot.tags.byId.get(id));
+    }
+
+    public Optional<TagDto> findTagBySlug(String slug) {
+        return Optional.ofNullable(snapshot.tags.bySlug.get(slug));
+    }
+
+    public CollectionVersion getTagsVersion() {
+        return snapshot.tags.version;
+    }
+
+    public void tagSaved(Tag tag) {
+        TagDto saved = TagDto.fromEntity(tag);
+        TransactionUtil.afterCommit(() -> update(current -> new Snapshot(current.tags.with(saved), current.categories)));
+        // Reports embed their tags and category
+        reportListVersion.changedAfterCommit();
+    }
+
+    public void tagDeleted(Long id) {
+        TransactionUtil.afterCommit(() -> update(current -> new Snapshot(current.tags.without(id), current.categories)));
+        reportListVersion.changedAfterCommit();
+    }
+
+    // ------------------------------------------------------------ categories
+
+    /**
+     * All categories in id order.
+     */
+    public List<CategoryDto> getCategories() {
+        return snapshot.categories.all;
+    }
+
+    public Optional<CategoryDto> findCategory(Long id) {
+        return Optional.ofNullable(snapshot.categories.byId.get(id));
+    }
+
+    public Optional<CategoryDto> findCategoryBySlug(String slug) {
+        return Optional.ofNullable(snapshot.categories.bySlug.get(slug));
+    }
+
+    public CollectionVersion getCategoriesVersion() {
+        return snapshot.categories.version;
+    }
+
+    public void categorySaved(Category category) {
+        CategoryDto saved = CategoryDto.fromEntity(category);
+        TransactionUtil.afterCommit(() -> update(current -> new Snapshot(current.tags, current.categories.with(saved))));
+        reportListVersion.changedAfterCommit();
+    }
+
+    public void categoryDeleted(Long id) {
+        TransactionUtil.afterCommit(() -> update(current -> new Snapshot(current.tags, current.categories.without(id))));
+        reportListVersion.changedAfterCommit();
+    }
+
+    /**
+     * Writers are serialized so concurrent changes (and reloads) are never lost.
+     */
+    private synchronized void update(Function<Snapshot, Snapshot> change) {
+        snapshot = change.apply(snapshot);
+    }
+
+    private static Entries<TagDto> tagEntries(Collection<TagDto> tags) {
+        return new Entries<>(tags, TagDto::getId, TagDto::getSlug, TagDto::getUpdatedAt);
+    }
+
+    private static Entries<CategoryDto> categoryEntries(Collection<CategoryDto> categories) {
+        return new Entries<>(categories, CategoryDto::getId, CategoryDto::getSlug, CategoryDto::getUpdatedAt);
+    }
+
+    private static final class Snapshot {
+        private final Entries<TagDto> tags;
+        private final Entries<CategoryDto> categories;
+
+        private Snapshot(Entries<TagDto> tags, Entries<CategoryDto> categories) {
+            this.tags = tags;
+            this.categories = categories;
+        }
+    }
+
+    /**
+     * Immutable lookup tables over one kind of entry, with the collection version
+     * (count and latest updatedAt) the list endpoints validate cached responses against.
+     */
+    private static final class Entries<T> {
+        private final List<T> all;
+        private final Map<Long, T> byId;
+        private final Map<String, T> bySlug;
+        private final CollectionVersion version;
+        private final Function<T, Long> id;
+        private final Function<T, String> slug;
+        private final Function<T, LocalDateTime> updatedAt;
+
+        private Entries(Collection<T> entries, Function<T, Long> id, Function<T, String> slug,
+                        Function<T, LocalDateTime> updatedAt) {
+            this.id = id;
+            this.slug = slug;
+            this.updatedAt = updatedAt;
+            this.all = entries.stream().sorted(Comparator.comparing(id)).toList();
+
+            Map<Long, T> byId = new HashMap<>();
+            Map<String, T> bySlug = new HashMap<>();
+            for (T entry : all) {
+                byId.put(id.apply(entry), entry);
+                bySlug.put(slug.apply(entry), entry);
+            }
+            this.byId = Map.copyOf(byId);
+            this.bySlug = Map.copyOf(bySlug);
+
+            LocalDateTime lastModified = all.stream()
+                .map(updatedAt)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+            this.version = new CollectionVersion((long) all.size(), lastModified);
+        }
+
+        private Entries<T> with(T entry) {
+            Map<Long, T> copy = new HashMap<>(byId);
+            copy.put(id.apply(entry), entry);
+            return new Entries<>(copy.values(), id, slug, updatedAt);
+        }
+
+        private Entries<T> without(Long entryId) {
+            Map<Long, T> copy = new HashMap<>(byId);
+            copy.remove(entryId);
+            return new Entries<>(copy.values(), id, slug, updatedAt);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.slm.backend.service;
 
+import com.slm.backend.dto.CollectionVersion;
 import com.slm.backend.dto.CreateTestimonialRequest;
 import com.slm.backend.dto.TestimonialDto;
 import com.slm.backend.dto.UpdateTestimonialRequest;
@@ -38,6 +39,11 @@ public class TestimonialService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public CollectionVersion getCollectionVersion() {
+        return testimonialRepository.findCollectionVersion();
+    }
+
     @Transactional(readOnly = true)
     public TestimonialDto getTestimonialById(Long id) {
         Testimonial testimonial = testimonialRepository.findById(id)
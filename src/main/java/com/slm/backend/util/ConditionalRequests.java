@@ -0,0 +1,68 @@
+package com.slm.backend.util;
+
+import com.slm.backend.config.HttpCacheProperties;
+import com.slm.backend.dto.CollectionVersion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.WebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Conditional GET support: answers 304 Not Modified when the client's If-None-Match /
+ * If-Modified-Since validators match the resource version, before the body is built.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionalRequests {
+
+    private final HttpCacheProperties httpCacheProperties;
+
+    /**
+     * @param policy       Cache-Control policy name from app.http-cache.policies
+     * @param version      value that changes whenever the representation changes
+     * @param lastModified latest modification time of the resource, may be null
+     * @param body         builds the response body; only called when the client copy is stale
+     */
+    public <T> ResponseEntity<T> respond(WebRequest request, String policy, String version,
+                                         LocalDateTime lastModified, Supplier<T> body) {
+        // Query parameters select the representation (page, view, filters), so they are part of the tag
+        String representation = policy + "|" + version + "|" + new TreeMap<>(request.getParameterMap()).entrySet().stream()
+            .map(parameter -> parameter.getKey() + "=" + String.join(",", parameter.getValue()))
+            .collect(Collectors.joining("&"));
+        String etag = "\"" + DigestUtils.md5DigestAsHex(representation.getBytes(StandardCharsets.UTF_8)) + "\"";
+        long lastModifiedMillis = lastModified != null
+            ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()
+            : -1;
+        String cacheControl = httpCacheProperties.getPolicy(policy);
+
+        if (request.checkNotModified(etag, lastModifiedMillis)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .eTag(etag)
+                .header(HttpHeaders.CACHE_CONTROL, cacheControl)
+                .build();
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .eTag(etag)
+            .header(HttpHeaders.CACHE_CONTROL, cacheControl);
+        if (lastModifiedMillis >= 0) {
+            response.lastModified(lastModifiedMillis);
+        }
+        return response.body(body.get());
+    }
+
+    public <T> ResponseEntity<T> respond(WebRequest request, String policy, CollectionVersion version,
+                                         Supplier<T> body) {
+        return respond(request, policy, version.asVersion(), version.getLastModified(), body);
+    }
+}
@@ -1,29 +1,75 @@
 package com.slm.backend.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
 @Component
 public class JwtUtil {
 
-    @Value("${jwt.secret:your-very-secure-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm}")
-    private String secret;
-
-    @Value("${jwt.expiration:86400000}") // Default: 24 hours in milliseconds
-    private Long expiration;
-
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    private final Long expiration;
+
+    // Built once; both are immutable and thread-safe
+    private final SecretKey signingKey;
+    private final JwtParser parser;
+
+    /**
+     * Claims of tokens that passed signature verification, keyed by a SHA-256 of the token
+     * (raw tokens are not kept in memory). Entries expire with the token itself.
+     */
+    private final Cache<String, Claims> verifiedClaims;
+
+    public JwtUtil(@Value("${jwt.secret:your-very-secure-secret-key-that-is-at-least-256-bits-long-for-hs256-algorithm}") String secret,
+                   @Value("${jwt.expiration:86400000}") Long expiration, // Default: 24 hours in milliseconds
+                   @Value("${jwt.claims-cache.max-size:10000}") long claimsCacheSize,
+                   MeterRegistry meterRegistry) {
+        this.expiration = expiration;
+        this.signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+        this.verifiedClaims = Caffeine.newBuilder()
+                .maximumSize(claimsCacheSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String key, Claims claims, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(millisUntilExpiry(claims));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwt.claims");
     }
 
     public String generateToken(String email, Long userId, String role) {
@@ -42,10 +88,31 @@ public class JwtUtil {
                 .subject(subject)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * Claims of a valid, unexpired token, verified at most once per token while it is cached.
+     * Throws a JwtException when the token is malformed, forged or expired.
+     */
+    public Claims verifyToken(String token) {
+        String key = hash(token);
+        Claims cached = verifiedClaims.getIfPresent(key);
+        if (cached != null) {
+            if (millisUntilExpiry(cached) > 0) {
+                return cached;
+            }
+            verifiedClaims.invalidate(key);
+            throw new ExpiredJwtException(null, cached, "JWT expired at " + cached.getExpiration());
+        }
+
+        // The parser rejects expired tokens; failures are not cached
+        Claims claims = extractAllClaims(token);
+        verifiedClaims.put(key, claims);
+        return claims;
+    }
+
     public String extractEmail(String token) {
         return extractClaim(token, Claims::getSubject);
     }
@@ -66,11 +133,7 @@ public class JwtUtil {
     }
 
     private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     public Boolean isTokenExpired(String token) {
@@ -89,4 +152,19 @@ public class JwtUtil {
         final String extractedEmail = extractEmail(token);
         return (extractedEmail.equals(email) && !isTokenExpired(token));
     }
+
+    private static long millisUntilExpiry(Claims claims) {
+        Date expiry = claims.getExpiration();
+        // Tokens without exp never expire on their own; cache them for a day at most
+        return expiry == null ? TimeUnit.DAYS.toMillis(1) : Math.max(0, expiry.getTime() - System.currentTimeMillis());
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
 }
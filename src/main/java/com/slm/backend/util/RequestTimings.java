@@ -0,0 +1,112 @@
+package com.slm.backend.util;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Where the current request spends its time: SQL statements (counted by the JDBC proxy),
+ * controller/service work and JSON serialization. Bound to the request thread by
+ * SqlMonitoringFilter; statements run on other threads are not attributed to any request.
+ */
+public final class RequestTimings {
+
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private static final ThreadLocal<RequestTimings> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private final Map<String, Integer> statementsBySql = new HashMap<>();
+    private int statements;
+    private long dbNanos;
+    private long statementStartNanos;
+
+    // Set once the response body is being serialized
+    private long serializationStartNanos;
+    private long dbNanosBeforeSerialization;
+    private long serializationEndNanos;
+
+    private RequestTimings() {
+    }
+
+    public static RequestTimings start() {
+        RequestTimings timings = new RequestTimings();
+        CURRENT.set(timings);
+        return timings;
+    }
+
+    /**
+     * The timings of the request handled by this thread, or null outside a request.
+     */
+    public static RequestTimings current() {
+        return CURRENT.get();
+    }
+
+    public static void clear() {
+        CURRENT.remove();
+    }
+
+    public void statementStarted() {
+        statementStartNanos = System.nanoTime();
+    }
+
+    public void statementFinished(String sql) {
+        dbNanos += System.nanoTime() - statementStartNanos;
+        statements++;
+        statementsBySql.merge(sql, 1, Integer::sum);
+    }
+
+    public void serializationStarted() {
+        serializationStartNanos = System.nanoTime();
+        dbNanosBeforeSerialization = dbNanos;
+    }
+
+    public void serializationFinished() {
+        serializationEndNanos = System.nanoTime();
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getDbNanos() {
+        return dbNanos;
+    }
+
+    public long getElapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * The SQL executed most often in this request with its count, or null if none ran.
+     */
+    public Map.Entry<String, Integer> mostRepeatedStatement() {
+        return statementsBySql.entrySet().stream()
+            .max(Map.Entry.comparingByValue())
+            .orElse(null);
+    }
+
+    /**
+     * Server-Timing header value. Statements issued while serializing (lazy loading) count
+     * as db, not serialization; mapping is the rest of the time before serialization.
+     */
+    public String serverTiming() {
+        boolean serialized = serializationEndNanos != 0;
+        long mappingEnd = serialized ? serializationStartNanos : System.nanoTime();
+        long mappingDb = serialized ? dbNanosBeforeSerialization : dbNanos;
+        StringBuilder header = new StringBuilder()
+            .append("db;dur=").append(millis(dbNanos))
+            .append(";desc=\"").append(statements).append(statements == 1 ? " query\"" : " queries\"")
+            .append(", mapping;dur=").append(millis(mappingEnd - startNanos - mappingDb));
+        if (serialized) {
+            long serializationDb = dbNanos - dbNanosBeforeSerialization;
+            header.append(", serialization;dur=")
+                .append(millis(serializationEndNanos - serializationStartNanos - serializationDb));
+        }
+        return header.toString();
+    }
+
+    private static String millis(long nanos) {
+        return String.format(Locale.ROOT, "%.1f", Math.max(nanos, 0) / 1e6);
+    }
+}
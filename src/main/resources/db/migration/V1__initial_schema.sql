@@ -0,0 +1,104 @@
+-- =============================================================================
+-- Initial schema, as Hibernate created it with ddl-auto=update
+-- =============================================================================
+-- Databases that already have these tables are baselined at version 1
+-- (spring.flyway.baseline-on-migrate) and skip this script. Constraint names
+-- are the ones Hibernate generated, so both kinds of database end up alike.
+-- Their id columns are AUTO_INCREMENT, which is left out here as ids come from
+-- the id_generators table added by V4__id_generators.
+-- =============================================================================
+
+CREATE TABLE users (
+    is_archived BIT NOT NULL,
+    created_at  DATETIME(6) NOT NULL,
+    id          BIGINT NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    name        VARCHAR(100),
+    email       VARCHAR(255) NOT NULL,
+    password    VARCHAR(255) NOT NULL,
+    role        ENUM ('USER','REPORTER','ADMIN') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE categories (
+    created_at  DATETIME(6) NOT NULL,
+    id          BIGINT NOT NULL,
+    updated_at  DATETIME(6) NOT NULL,
+    color       VARCHAR(20),
+    name        VARCHAR(100) NOT NULL,
+    slug        VARCHAR(100) NOT NULL,
+    description VARCHAR(500),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE tags (
+    created_at DATETIME(6) NOT NULL,
+    id         BIGINT NOT NULL,
+    updated_at DATETIME(6) NOT NULL,
+    name       VARCHAR(50) NOT NULL,
+    slug       VARCHAR(50) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE reports (
+    author_id         BIGINT NOT NULL,
+    category_id       BIGINT,
+    created_at        DATETIME(6) NOT NULL,
+    featured_image_id BIGINT,
+    id                BIGINT NOT NULL,
+    published_at      DATETIME(6),
+    updated_at        DATETIME(6) NOT NULL,
+    view_count        BIGINT NOT NULL,
+    excerpt           VARCHAR(500) NOT NULL,
+    featured_image    VARCHAR(500),
+    content           TEXT NOT NULL,
+    slug              VARCHAR(255) NOT NULL,
+    title             VARCHAR(255) NOT NULL,
+    status            ENUM ('DRAFT','PUBLISHED','ARCHIVED') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE report_tags (
+    report_id BIGINT NOT NULL,
+    tag_id    BIGINT NOT NULL,
+    PRIMARY KEY (report_id, tag_id)
+) ENGINE=InnoDB;
+
+CREATE TABLE report_images (
+    display_order INTEGER NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    id            BIGINT NOT NULL,
+    report_id     BIGINT NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    caption       VARCHAR(500),
+    thumbnail_url VARCHAR(500),
+    url           VARCHAR(500) NOT NULL,
+    alt           VARCHAR(255) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+CREATE TABLE testimonials (
+    display_order INTEGER NOT NULL,
+    rating        INTEGER NOT NULL,
+    created_at    DATETIME(6) NOT NULL,
+    id            BIGINT NOT NULL,
+    updated_at    DATETIME(6) NOT NULL,
+    avatar_url    VARCHAR(500),
+    author        VARCHAR(255) NOT NULL,
+    company       VARCHAR(255),
+    quote         TEXT NOT NULL,
+    title         VARCHAR(255) NOT NULL,
+    status        ENUM ('DRAFT','PUBLISHED','ARCHIVED') NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
+
+ALTER TABLE users ADD CONSTRAINT UK_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+ALTER TABLE categories ADD CONSTRAINT UK_oul14ho7bctbefv8jywp5v3i2 UNIQUE (slug);
+ALTER TABLE tags ADD CONSTRAINT UK_sn0d91hxu700qcw0n4pebp5vc UNIQUE (slug);
+ALTER TABLE reports ADD CONSTRAINT UK_mb65mh4u1o4esk7esnemkc2is UNIQUE (slug);
+
+ALTER TABLE reports ADD CONSTRAINT FKb6m0c7yr0xjys3y3uwhgopmao FOREIGN KEY (author_id) REFERENCES users (id);
+ALTER TABLE reports ADD CONSTRAINT FKp4vx7qodji1jawy8jcd94h5wj FOREIGN KEY (category_id) REFERENCES categories (id);
+ALTER TABLE report_tags ADD CONSTRAINT FKida8t7ysiwsl99eo83fy49igl FOREIGN KEY (report_id) REFERENCES reports (id);
+ALTER TABLE report_tags ADD CONSTRAINT FKbwotfxfisgmb3y2273jgecfia FOREIGN KEY (tag_id) REFERENCES tags (id);
+ALTER TABLE report_images ADD CONSTRAINT FKio33xl5nyhe7fv6e8me83ddj5 FOREIGN KEY (report_id) REFERENCES reports (id);
@@ -0,0 +1,23 @@
+-- =============================================================================
+-- Composite indexes for the list queries
+-- =============================================================================
+-- ddl-auto=update only ever created primary keys, unique keys and the indexes
+-- MySQL adds for foreign keys, so every filtered and sorted list scanned and
+-- sorted its whole table. The report_tags index is created by
+-- V3__report_tags_tag_index, since some of those databases already have it.
+-- =============================================================================
+
+-- Published reports by publication date (public listing, sort=publishedAt)
+CREATE INDEX idx_reports_status_published_at ON reports (status, published_at);
+
+-- An author's reports, newest first (GET /reports/my/list, authorId filter)
+CREATE INDEX idx_reports_author_created_at ON reports (author_id, created_at);
+
+-- A category's reports, newest first (categoryId filter)
+CREATE INDEX idx_reports_category_created_at ON reports (category_id, created_at);
+
+-- A report's images in display order
+CREATE INDEX idx_report_images_report_order ON report_images (report_id, display_order);
+
+-- Published testimonials in display order
+CREATE INDEX idx_testimonials_status_order ON testimonials (status, display_order);
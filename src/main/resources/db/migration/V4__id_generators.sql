@@ -0,0 +1,41 @@
+-- =============================================================================
+-- Table-allocated entity ids
+-- =============================================================================
+-- Entity ids are allocated by Hibernate from id_generators (one row per entity
+-- table holding the highest id already allocated, see BaseEntity) instead of
+-- AUTO_INCREMENT, so inserts can be batched. Databases baselined at version 1
+-- predate the table; each row starts at the table's current MAX(id).
+-- IdGeneratorSeeder repeats the seeding on every start, and
+-- scripts/migrate-id-generators.sql does it by hand for schemas managed
+-- outside the application.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS id_generators (
+    next_val BIGINT,
+    entity   VARCHAR(255) NOT NULL,
+    PRIMARY KEY (entity)
+) ENGINE=InnoDB;
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) FROM users
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'categories', COALESCE(MAX(id), 0) FROM categories
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'tags', COALESCE(MAX(id), 0) FROM tags
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'reports', COALESCE(MAX(id), 0) FROM reports
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'report_images', COALESCE(MAX(id), 0) FROM report_images
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
+
+INSERT INTO id_generators (entity, next_val)
+SELECT 'testimonials', COALESCE(MAX(id), 0) FROM testimonials
+ON DUPLICATE KEY UPDATE next_val = GREATEST(next_val, VALUES(next_val));
@@ -0,0 +1,102 @@
+package com.slm.backend.repository;
+
+import com.slm.backend.entity.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that saving many entities in one transaction is written with JDBC batches
+ * (hibernate.jdbc.batch_size) rather than one statement per row.
+ */
+@SpringBootTest
+class InsertBatchingTest {
+
+    private static final int REPORT_COUNT = 120;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User author;
+    private Category category;
+    private List<Tag> tags;
+
+    @BeforeEach
+    void seed() {
+        author = userRepository.save(User.builder().name("Author").email("batch@test.com").password("secret").build());
+        category = categoryRepository.save(Category.builder().name("Batch").slug("batch").build());
+        tags = tagRepository.saveAll(List.of(
+            Tag.builder().name("Tag A").slug("batch-tag-a").build(),
+            Tag.builder().name("Tag B").slug("batch-tag-b").build()
+        ));
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        tagRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void multiRowSaveIsBatched() {
+        List<Report> reports = new ArrayList<>();
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            Report report = Report.builder()
+                .title("Report " + i)
+                .slug("batch-report-" + i)
+                .excerpt("Excerpt " + i)
+                .content("Content " + i)
+                .author(author)
+                .category(category)
+                .tags(Set.copyOf(tags))
+                .build();
+            report.addImage(ReportImage.builder().url("a-" + i).alt("a").displayOrder(0).build());
+            report.addImage(ReportImage.builder().url("b-" + i).alt("b").displayOrder(1).build());
+            reports.add(report);
+        }
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        transactionTemplate.executeWithoutResult(status -> reportRepository.saveAll(reports));
+
+        // 120 reports and 240 images; tags and images collections of every report
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(REPORT_COUNT * 3L);
+        assertThat(statistics.getCollectionRecreateCount()).isEqualTo(REPORT_COUNT * 2L);
+
+        // One batched statement per table (reports, report_images, report_tags), reused for
+        // every batch of 50 rows; without batching each of the 600 rows gets its own statement
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+
+        assertThat(reportRepository.count()).isEqualTo(REPORT_COUNT);
+        assertThat(reports).extracting(Report::getId).doesNotHaveDuplicates().doesNotContainNull();
+    }
+}
@@ -0,0 +1,194 @@
+package com.slm.backend.repository;
+
+import com.slm.backend.dto.report.ReportCursor;
+import com.slm.backend.dto.report.ReportFilter;
+import com.slm.backend.dto.report.ReportListResponse;
+import com.slm.backend.dto.report.ReportView;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.User;
+import com.slm.backend.service.ReportService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Verifies keyset pagination (findKeysAfter and the cursor endpoint): rows with equal sort
+ * values are neither skipped nor repeated across pages, and bad cursors are rejected.
+ */
+@SpringBootTest
+class ReportCursorPaginationTest {
+
+    private static final int REPORT_COUNT = 25;
+    private static final int PAGE_SIZE = 4;
+    // Few distinct view counts, so most rows tie on the sort value
+    private static final int DISTINCT_VIEW_COUNTS = 3;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private final ReportFilter noFilter = ReportFilter.builder().build();
+
+    private List<Report> reports;
+
+    @BeforeEach
+    void seed() {
+        User author = userRepository.save(User.builder().name("Author").email("cursor@test.com").password("secret").build());
+        List<Report> toSave = new ArrayList<>();
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            toSave.add(Report.builder()
+                .title("Report " + i)
+                .slug("cursor-report-" + i)
+                .excerpt("Excerpt " + i)
+                .content("Content " + i)
+                .viewCount((long) (i % DISTINCT_VIEW_COUNTS))
+                .author(author)
+                .build());
+        }
+        reports = reportRepository.saveAll(toSave);
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void ascendingPagesVisitEveryRowOnceInOrder() {
+        Comparator<Report> order = Comparator.comparing(Report::getViewCount).thenComparing(Report::getId);
+
+        assertThat(walk("viewCount", Sort.Direction.ASC)).containsExactlyElementsOf(expectedIds(order));
+    }
+
+    @Test
+    void descendingPagesVisitEveryRowOnceInOrder() {
+        Comparator<Report> order = Comparator.comparing(Report::getViewCount).thenComparing(Report::getId).reversed();
+
+        assertThat(walk("viewCount", Sort.Direction.DESC)).containsExactlyElementsOf(expectedIds(order));
+    }
+
+    @Test
+    void titleTiesAreBrokenById() {
+        reports.forEach(report -> report.setTitle("Same title"));
+        reports = reportRepository.saveAll(reports);
+
+        List<Long> ids = reports.stream().map(Report::getId).sorted().collect(Collectors.toList());
+        assertThat(walk("title", Sort.Direction.ASC)).containsExactlyElementsOf(ids);
+    }
+
+    @Test
+    void cursorSurvivesEncodingRoundTrip() {
+        ReportCursor cursor = new ReportCursor("title", 42L, "A|title with separators");
+
+        ReportCursor decoded = ReportCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSortField()).isEqualTo("title");
+        assertThat(decoded.getId()).isEqualTo(42L);
+        assertThat(decoded.getValue()).isEqualTo("A|title with separators");
+    }
+
+    @Test
+    void malformedCursorsAreRejected() {
+        assertThatThrownBy(() -> ReportCursor.decode("not base64!")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReportCursor.decode(token("viewCount|1"))).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> ReportCursor.decode(token("viewCount|abc|1"))).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void tamperedCursorValueIsRejected() {
+        assertThatThrownBy(() -> cursorPage(token("viewCount|1|not-a-number"), "viewCount", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid cursor");
+        assertThatThrownBy(() -> cursorPage(token("createdAt|1|yesterday"), "createdAt", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void cursorForAnotherSortFieldIsRejected() {
+        String cursor = new ReportCursor("viewCount", 1L, "0").encode();
+
+        assertThatThrownBy(() -> cursorPage(cursor, "title", true))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("Cursor does not match sort field: title");
+    }
+
+    @Test
+    void unsupportedSortFieldIsRejected() {
+        assertThatThrownBy(() -> cursorPage("", "publishedAt", true)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void totalIsOnlyCountedWhenRequested() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        ReportListResponse<?> withoutTotal = cursorPage("", "viewCount", false);
+        long withoutTotalStatements = statistics.getPrepareStatementCount();
+
+        statistics.clear();
+        ReportListResponse<?> withTotal = cursorPage("", "viewCount", true);
+        long withTotalStatements = statistics.getPrepareStatementCount();
+
+        assertThat(withoutTotal.getTotal()).isNull();
+        assertThat(withoutTotal.getTotalPages()).isNull();
+        assertThat(withTotal.getTotal()).isEqualTo(REPORT_COUNT);
+        assertThat(withTotalStatements).isEqualTo(withoutTotalStatements + 1);
+    }
+
+    /**
+     * Ids of all rows, following each page's last key like a client following nextCursor.
+     */
+    private List<Long> walk(String sortField, Sort.Direction direction) {
+        List<Long> ids = new ArrayList<>();
+        ReportCursor after = null;
+        for (int page = 0; page <= REPORT_COUNT; page++) {
+            List<ReportCursor> keys = reportRepository.findKeysAfter(noFilter, sortField, direction, after, PAGE_SIZE);
+            keys.forEach(key -> ids.add(key.getId()));
+            if (keys.size() < PAGE_SIZE) {
+                return ids;
+            }
+            // Decode what a client would send back
+            after = ReportCursor.decode(keys.get(keys.size() - 1).encode());
+        }
+        throw new AssertionError("Pagination did not terminate");
+    }
+
+    private List<Long> expectedIds(Comparator<Report> order) {
+        return reports.stream().sorted(order).map(Report::getId).collect(Collectors.toList());
+    }
+
+    private ReportListResponse<?> cursorPage(String cursor, String sortBy, boolean includeTotal) {
+        return reportService.getReportsByCursor(cursor, PAGE_SIZE, null, null, null, null, null, null, null, null,
+            sortBy, "asc", includeTotal, ReportView.SUMMARY);
+    }
+
+    private static String token(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
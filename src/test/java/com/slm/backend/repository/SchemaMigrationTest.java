@@ -0,0 +1,148 @@
+package com.slm.backend.repository;
+
+import com.slm.backend.SlmBackendApplication;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.Testimonial;
+import com.slm.backend.entity.User;
+import org.flywaydb.core.Flyway;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies the Flyway migrations against the entity mappings (the context starts with
+ * ddl-auto=validate) and against databases created by ddl-auto=update before them.
+ */
+@SpringBootTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.database-platform=com.slm.backend.repository.SchemaMigrationTest$MigrationsH2Dialect"
+})
+class SchemaMigrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Flyway flyway;
+
+    /**
+     * The migrations declare MySQL ENUM columns, which H2 reports as OTHER while the H2
+     * dialect maps enums to varchar; their values are checked by enumColumnsListTheMappedConstants.
+     */
+    public static class MigrationsH2Dialect extends H2Dialect {
+
+        @Override
+        public boolean equivalentTypes(int typeCode1, int typeCode2) {
+            return super.equivalentTypes(typeCode1, typeCode2)
+                || (typeCode1 == Types.VARCHAR && typeCode2 == Types.OTHER);
+        }
+    }
+
+    @Test
+    void mappingsMatchTheMigratedSchema() {
+        // The context only starts when Hibernate validated every mapped table and column
+        assertThat(flyway.info().applied()).hasSize(4).noneMatch(migration -> migration.getState().isFailed());
+    }
+
+    @Test
+    void enumColumnsListTheMappedConstants() {
+        assertThat(enumValues("REPORTS", "STATUS")).containsExactlyElementsOf(names(Report.Status.values()));
+        assertThat(enumValues("TESTIMONIALS", "STATUS")).containsExactlyElementsOf(names(Testimonial.Status.values()));
+        assertThat(enumValues("USERS", "ROLE")).containsExactlyElementsOf(names(User.Role.values()));
+    }
+
+    @Test
+    void databaseFromBeforeTheMigrationsIsUpgraded() throws Exception {
+        String url = "jdbc:h2:mem:slmbaseline;MODE=MySQL;DB_CLOSE_DELAY=-1";
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, "sa", "");
+        JdbcTemplate baseline = new JdbcTemplate(dataSource);
+
+        // A database from ddl-auto=update: the initial schema with AUTO_INCREMENT ids and no
+        // id_generators, plus the index the Report mapping declared for a while
+        String initialSchema = new ClassPathResource("db/migration/V1__initial_schema.sql")
+            .getContentAsString(StandardCharsets.UTF_8)
+            .replaceAll("(?m)^(\\s+id\\s+BIGINT NOT NULL),$", "$1 AUTO_INCREMENT,");
+        try (Connection connection = dataSource.getConnection()) {
+            ScriptUtils.executeSqlScript(connection, new ByteArrayResource(initialSchema.getBytes(StandardCharsets.UTF_8)));
+        }
+        assertThat(baseline.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE TABLE_NAME = 'ID_GENERATORS'", Integer.class))
+            .as("V1 must stay the schema of those databases, which allocated ids with AUTO_INCREMENT")
+            .isZero();
+        baseline.execute("CREATE INDEX idx_report_tags_tag_report ON report_tags (tag_id, report_id)");
+        baseline.update("INSERT INTO users (is_archived, created_at, updated_at, email, password, role) "
+            + "VALUES (FALSE, NOW(), NOW(), 'first@test.com', 'secret', 'USER')");
+        baseline.update("INSERT INTO users (is_archived, created_at, updated_at, email, password, role) "
+            + "VALUES (FALSE, NOW(), NOW(), 'second@test.com', 'secret', 'USER')");
+
+        // Started as in production: baselined, migrated, validated by Hibernate and seeded. Passed
+        // as arguments, as properties() would only be defaults under the test application.properties
+        try (ConfigurableApplicationContext upgraded = new SpringApplicationBuilder(SlmBackendApplication.class).run(
+                "--server.port=0",
+                "--spring.datasource.url=" + url,
+                "--spring.flyway.baseline-on-migrate=true",
+                "--spring.flyway.baseline-version=1",
+                "--spring.jpa.hibernate.ddl-auto=validate",
+                "--spring.jpa.database-platform=" + MigrationsH2Dialect.class.getName())) {
+            assertThat(upgraded.getBean(Flyway.class).info().applied())
+                .extracting(migration -> migration.getVersion().getVersion() + " " + migration.getType())
+                .containsExactly("1 BASELINE", "2 SQL", "3 JDBC", "4 SQL");
+            assertThat(baseline.queryForObject(
+                "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_REPORT_TAGS_TAG_REPORT'", Integer.class))
+                .isEqualTo(1);
+            assertThat(baseline.queryForObject(
+                "SELECT next_val FROM id_generators WHERE entity = 'users'", Long.class))
+                .isEqualTo(2);
+
+            User created = upgraded.getBean(UserRepository.class)
+                .save(User.builder().name("Third").email("third@test.com").password("secret").build());
+            assertThat(created.getId()).isGreaterThan(2);
+        } finally {
+            baseline.execute("DROP ALL OBJECTS");
+        }
+    }
+
+    @Test
+    void tagIndexIsCreatedOnNewDatabases() {
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = 'IDX_REPORT_TAGS_TAG_REPORT'", Integer.class))
+            .isEqualTo(1);
+    }
+
+    private List<String> enumValues(String table, String column) {
+        String type = jdbcTemplate.queryForObject(
+            "SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ? AND COLUMN_NAME = ?",
+            String.class, table, column);
+        assertThat(type).isEqualTo("ENUM");
+        List<String> values = new ArrayList<>();
+        jdbcTemplate.query(
+            "SELECT VALUE_NAME FROM INFORMATION_SCHEMA.ENUM_VALUES WHERE OBJECT_NAME = ? AND ENUM_IDENTIFIER = "
+                + "(SELECT DTD_IDENTIFIER FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_NAME = ? AND COLUMN_NAME = ?) "
+                + "ORDER BY VALUE_ORDINAL",
+            row -> {
+                values.add(row.getString(1));
+            }, table, table, column);
+        return values;
+    }
+
+    private static List<String> names(Enum<?>[] constants) {
+        return Arrays.stream(constants).map(Enum::name).toList();
+    }
+}
@@ -0,0 +1,191 @@
+package com.slm.backend.service;
+
+import com.slm.backend.config.HttpCacheProperties;
+import com.slm.backend.config.UploadProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies range handling, conditional ranges and that cached file metadata does not
+ * outlive deleted or replaced files.
+ */
+class FileServiceTest {
+
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final int SIZE = 1000;
+
+    @TempDir
+    Path baseDir;
+
+    private UploadProperties uploadProperties;
+    private FileService fileService;
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        uploadProperties = new UploadProperties();
+        uploadProperties.setBaseDir(baseDir.toString());
+        uploadProperties.setPath("reports/");
+        fileService = new FileService(uploadProperties, new HttpCacheProperties(), new SimpleMeterRegistry());
+
+        content = new byte[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            content[i] = (byte) i;
+        }
+        Path reportDir = Files.createDirectories(uploadProperties.getReportUploadPath(1L));
+        file = Files.write(reportDir.resolve("image.png"), content);
+    }
+
+    @Test
+    void parsesSingleRanges() {
+        assertThat(FileService.parseRange("bytes=0-99", SIZE)).containsExactly(0, 99);
+        assertThat(FileService.parseRange("bytes=500-", SIZE)).containsExactly(500, 999);
+        assertThat(FileService.parseRange("bytes=900-5000", SIZE)).containsExactly(900, 999);
+        assertThat(FileService.parseRange("bytes=-100", SIZE)).containsExactly(900, 999);
+        assertThat(FileService.parseRange("bytes=-5000", SIZE)).containsExactly(0, 999);
+    }
+
+    @Test
+    void servesWholeFileForMultipleOrMalformedRanges() {
+        assertThat(FileService.parseRange("bytes=0-1,5-6", SIZE)).isEmpty();
+        assertThat(FileService.parseRange("bytes=-", SIZE)).isEmpty();
+        assertThat(FileService.parseRange("bytes=abc", SIZE)).isEmpty();
+        assertThat(FileService.parseRange("items=0-1", SIZE)).isEmpty();
+        assertThat(FileService.parseRange("bytes=5-2", SIZE)).isEmpty();
+        assertThat(FileService.parseRange("bytes=99999999999999999999-", SIZE)).isEmpty();
+    }
+
+    @Test
+    void rejectsUnsatisfiableRanges() {
+        assertThat(FileService.parseRange("bytes=1000-", SIZE)).isNull();
+        assertThat(FileService.parseRange("bytes=1000-1005", SIZE)).isNull();
+        assertThat(FileService.parseRange("bytes=-0", SIZE)).isNull();
+    }
+
+    @Test
+    void servesRequestedRange() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=10-19");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes 10-19/1000");
+        assertThat(response.getContentAsByteArray()).isEqualTo(Arrays.copyOfRange(content, 10, 20));
+    }
+
+    @Test
+    void unsatisfiableRangeIs416() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=2000-");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(416);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isEqualTo("bytes */1000");
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void ifRangeWithCurrentEtagServesRange() throws IOException {
+        String etag = serve(request()).getHeader(HttpHeaders.ETAG);
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, etag);
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(206);
+        assertThat(response.getContentAsByteArray()).hasSize(10);
+    }
+
+    @Test
+    void ifRangeWithOtherEtagServesWholeFile() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "\"other\"");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getHeader(HttpHeaders.CONTENT_RANGE)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void ifRangeWithOlderDateServesWholeFile() throws IOException {
+        MockHttpServletRequest request = request();
+        request.addHeader(HttpHeaders.RANGE, "bytes=0-9");
+        request.addHeader(HttpHeaders.IF_RANGE, "Thu, 01 Jan 1970 00:00:00 GMT");
+
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentAsByteArray()).isEqualTo(content);
+    }
+
+    @Test
+    void sendfileIsNotUsedForFileDeletedAfterCaching() throws IOException {
+        serve(sendfileRequest());
+        Files.delete(file);
+
+        MockHttpServletRequest request = sendfileRequest();
+        MockHttpServletResponse response = serve(request);
+
+        assertThat(response.getStatus()).isEqualTo(404);
+        assertThat(request.getAttribute(SENDFILE_FILENAME)).isNull();
+    }
+
+    @Test
+    void sendfileUsesSizeOfFileReplacedAfterCaching() throws IOException {
+        serve(sendfileRequest());
+        Files.write(file, new byte[10]);
+
+        MockHttpServletResponse response = serve(sendfileRequest());
+
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+    }
+
+    @Test
+    void evictedDirectoryIsReadAgain() throws IOException {
+        serve(request());
+        Files.write(file, new byte[10]);
+        fileService.evictDirectory(uploadProperties.getReportUploadPath(1L));
+
+        MockHttpServletResponse response = serve(request());
+
+        assertThat(response.getContentLengthLong()).isEqualTo(10);
+        assertThat(response.getContentAsByteArray()).hasSize(10);
+    }
+
+    private MockHttpServletRequest request() {
+        return new MockHttpServletRequest("GET", "/uploads/reports/1/image.png");
+    }
+
+    private MockHttpServletRequest sendfileRequest() {
+        MockHttpServletRequest request = request();
+        request.setAttribute(SENDFILE_SUPPORTED, Boolean.TRUE);
+        return request;
+    }
+
+    private MockHttpServletResponse serve(MockHttpServletRequest request) throws IOException {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        fileService.serve(file, request, response);
+        return response;
+    }
+}
@@ -0,0 +1,124 @@
+package com.slm.backend.service;
+
+import com.slm.backend.config.UploadProperties;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.ReportImage;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.ReportImageRepository;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that variants are only generated for images within app.images.max-pixels and
+ * that no files are left behind for images deleted before their job ran.
+ */
+@SpringBootTest(properties = "app.images.max-pixels=5000")
+class ImageVariantServiceTest {
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private ThreadPoolTaskExecutor imageTaskExecutor;
+
+    @Autowired
+    private UploadProperties uploadProperties;
+
+    @Autowired
+    private ReportImageRepository reportImageRepository;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Report report;
+
+    @BeforeEach
+    void seed() {
+        User author = userRepository.save(User.builder().name("Author").email("variants@test.com").password("secret").build());
+        report = reportRepository.save(Report.builder()
+            .title("Illustrated")
+            .slug("variants-report")
+            .excerpt("Excerpt")
+            .content("Content")
+            .author(author)
+            .build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void variantsAreGeneratedWithinTheLimit() throws Exception {
+        ReportImage image = image("small.png");
+        Path original = original("small.png", 80, 60);
+
+        generate(image.getId(), original);
+
+        assertThat(original.resolveSibling("small-thumb.jpg")).exists();
+        assertThat(reportImageRepository.findById(image.getId()).orElseThrow().getThumbnailUrl()).endsWith("small-thumb.jpg");
+    }
+
+    @Test
+    void imagesAboveTheLimitAreNotDecoded() throws Exception {
+        ReportImage image = image("large.png");
+        Path original = original("large.png", 100, 60);
+
+        generate(image.getId(), original);
+
+        assertThat(original.resolveSibling("large-thumb.jpg")).doesNotExist();
+        assertThat(reportImageRepository.findById(image.getId()).orElseThrow().getThumbnailUrl()).isNull();
+    }
+
+    @Test
+    void deletedImagesLeaveNoVariants() throws Exception {
+        ReportImage image = image("deleted.png");
+        Path original = original("deleted.png", 80, 60);
+        reportImageRepository.deleteById(image.getId());
+
+        generate(image.getId(), original);
+
+        assertThat(original.resolveSibling("deleted-thumb.jpg")).doesNotExist();
+    }
+
+    private ReportImage image(String url) {
+        return reportImageRepository.save(ReportImage.builder().report(report).url(url).alt("Photo").build());
+    }
+
+    private Path original(String name, int width, int height) throws Exception {
+        Path directory = Files.createDirectories(uploadProperties.getReportUploadPath(report.getId()));
+        Path original = directory.resolve(name);
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", original.toFile());
+        return original;
+    }
+
+    private void generate(Long imageId, Path original) throws InterruptedException {
+        long completed = imageTaskExecutor.getThreadPoolExecutor().getCompletedTaskCount();
+        imageVariantService.generateAfterCommit(report.getId(), imageId, original);
+
+        // Generated on the background pool
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (imageTaskExecutor.getThreadPoolExecutor().getCompletedTaskCount() == completed
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+    }
+}
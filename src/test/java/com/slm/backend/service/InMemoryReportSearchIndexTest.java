@@ -0,0 +1,123 @@
+package com.slm.backend.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies ranking, term matching and highlighting of the in-memory search index.
+ */
+class InMemoryReportSearchIndexTest {
+
+    private InMemoryReportSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InMemoryReportSearchIndex();
+    }
+
+    @Test
+    void titleMatchesRankAboveExcerptAndContentMatches() {
+        index.index(1L, "Other", "Other", "<p>Harbour survey notes</p>");
+        index.index(2L, "Harbour survey", "Other", "Other");
+        index.index(3L, "Other", "Harbour survey summary", "Other");
+
+        assertThat(index.search("harbour")).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    void everyTermMustMatch() {
+        index.index(1L, "River levels", "", "");
+        index.index(2L, "River bridge inspection", "", "");
+        index.index(3L, "Bridge inspection", "", "");
+
+        assertThat(index.search("river bridge")).containsExactly(2L);
+        assertThat(index.search("river tunnel")).isEmpty();
+    }
+
+    @Test
+    void onlyTheLastTermMatchesAsPrefix() {
+        index.index(1L, "Inspection of the bridge", "", "");
+        index.index(2L, "Inspector notes", "", "");
+
+        assertThat(index.search("insp")).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(index.search("insp notes")).isEmpty();
+        assertThat(index.search("notes insp")).containsExactly(2L);
+    }
+
+    @Test
+    void exactMatchesRankAbovePrefixMatches() {
+        index.index(1L, "Surveys", "", "");
+        index.index(2L, "Survey", "", "");
+
+        assertThat(index.search("survey")).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void matchingIgnoresCaseAndDiacritics() {
+        index.index(1L, "Café Éclair", "", "");
+
+        assertThat(index.search("cafe ECLAIR")).containsExactly(1L);
+    }
+
+    @Test
+    void resultsAreNotTruncated() {
+        for (long id = 1; id <= 2500; id++) {
+            index.index(id, "Report " + id, "", "Common term");
+        }
+
+        assertThat(index.search("common")).hasSize(2500);
+    }
+
+    @Test
+    void reindexingAndRemovalReplaceOldTerms() {
+        index.index(1L, "Old title", "", "");
+        index.index(1L, "New title", "", "");
+        assertThat(index.search("old")).isEmpty();
+        assertThat(index.search("new")).containsExactly(1L);
+
+        index.remove(1L);
+        assertThat(index.search("new")).isEmpty();
+    }
+
+    @Test
+    void titleHighlightMarksMatchingWords() {
+        index.index(1L, "Bridge & tunnel inspection", "", "");
+
+        Map<Long, String> highlights = index.highlights(List.of(1L), "inspect");
+
+        assertThat(highlights).containsEntry(1L, "Bridge &amp; tunnel <mark>inspection</mark>");
+    }
+
+    @Test
+    void contentHighlightIsEscapedOnce() {
+        index.index(1L, "Title", "", "<p>Salt &amp; pepper <b>&lt;harbour&gt;</b> notes</p>");
+
+        Map<Long, String> highlights = index.highlights(List.of(1L), "harbour");
+
+        assertThat(highlights).containsEntry(1L, "Salt &amp; pepper &lt;<mark>harbour</mark>&gt; notes");
+        assertThat(index.search("amp")).isEmpty();
+    }
+
+    @Test
+    void longContentIsCutToASnippetAroundTheFirstMatch() {
+        String filler = "lorem ipsum dolor sit amet ".repeat(20);
+        index.index(1L, "Title", "", filler + "the harbour wall " + filler);
+
+        String highlight = index.highlights(List.of(1L), "harbour").get(1L);
+
+        assertThat(highlight).startsWith("…").endsWith("…").contains("<mark>harbour</mark>");
+        assertThat(highlight.length()).isLessThan(200);
+    }
+
+    @Test
+    void reportsWithoutMatchesGetNoHighlight() {
+        index.index(1L, "Title", "Excerpt", "Content");
+
+        assertThat(index.highlights(List.of(1L, 2L), "harbour")).isEmpty();
+    }
+}
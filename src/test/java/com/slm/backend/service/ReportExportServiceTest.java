@@ -0,0 +1,85 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.report.ReportExportFormat;
+import com.slm.backend.dto.report.ReportFilter;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that exported CSV cells cannot be evaluated as formulas by a spreadsheet.
+ */
+@SpringBootTest
+class ReportExportServiceTest {
+
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+
+    @BeforeEach
+    void seed() {
+        author = userRepository.save(User.builder().name("Author").email("export@test.com").password("secret").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void formulaCellsAreEscaped() throws IOException {
+        reportRepository.save(report("=HYPERLINK(\"http://example.com\",\"Open\")", "formula-equals", "+1+1"));
+        reportRepository.save(report("@SUM(A1:A2)", "formula-at", "-2+3"));
+        reportRepository.save(report("\tTabbed", "formula-tab", "\rReturn"));
+
+        String csv = export();
+
+        assertThat(csv)
+            .contains(",\"'=HYPERLINK(\"\"http://example.com\"\",\"\"Open\"\")\",formula-equals,'+1+1,")
+            .contains(",'@SUM(A1:A2),formula-at,'-2+3,")
+            .contains(",'\tTabbed,formula-tab,\"'\rReturn\",");
+    }
+
+    @Test
+    void plainCellsAreUnchanged() throws IOException {
+        reportRepository.save(report("Quarterly results", "quarterly-results", "Revenue up 3% - costs flat"));
+
+        assertThat(export()).contains(",Quarterly results,quarterly-results,Revenue up 3% - costs flat,");
+    }
+
+    private String export() throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        reportExportService.export(ReportFilter.builder().build(), ReportExportFormat.CSV, output);
+        return output.toString(StandardCharsets.UTF_8);
+    }
+
+    private Report report(String title, String slug, String excerpt) {
+        return Report.builder()
+            .title(title)
+            .slug(slug)
+            .excerpt(excerpt)
+            .content("Content")
+            .author(author)
+            .build();
+    }
+}
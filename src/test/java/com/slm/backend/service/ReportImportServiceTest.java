@@ -0,0 +1,86 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.report.ReportImportResult;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that an import running in a request's EntityManager (open-in-view) does not
+ * keep the imported reports in its persistence context.
+ */
+@SpringBootTest
+class ReportImportServiceTest {
+
+    // Three chunks at the default batch size of 500
+    private static final int ROW_COUNT = 1200;
+
+    @Autowired
+    private ReportImportService reportImportService;
+
+    @Autowired
+    private ReportSearchIndexer reportSearchIndexer;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        userRepository.save(User.builder().name("Author").email("import@test.com").password("secret").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        userRepository.deleteAll();
+        reportSearchIndexer.rebuild();
+    }
+
+    @Test
+    void importedChunksAreDetachedFromTheRequestEntityManager() throws IOException {
+        // Bound like OpenEntityManagerInViewInterceptor does for a request
+        EntityManager requestEntityManager = entityManagerFactory.createEntityManager();
+        TransactionSynchronizationManager.bindResource(entityManagerFactory, new EntityManagerHolder(requestEntityManager));
+        try {
+            ReportImportResult result = reportImportService.importReports(input(), "import@test.com");
+
+            assertThat(result.getImported()).isEqualTo(ROW_COUNT);
+            assertThat(requestEntityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+        } finally {
+            TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            requestEntityManager.close();
+        }
+        assertThat(reportRepository.count()).isEqualTo(ROW_COUNT);
+    }
+
+    private static ByteArrayInputStream input() {
+        StringBuilder lines = new StringBuilder();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            lines.append("{\"title\":\"Imported ").append(i)
+                .append("\",\"excerpt\":\"Excerpt\",\"content\":\"Content\"}\n");
+        }
+        return new ByteArrayInputStream(lines.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,193 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.report.CreateReportRequest;
+import com.slm.backend.dto.report.ReportDto;
+import com.slm.backend.config.UploadProperties;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.ReportImage;
+import com.slm.backend.entity.Tag;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.ReportImageRepository;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.TagRepository;
+import com.slm.backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the report list version is answered from memory and moves on every change
+ * that can show in a list, including ones that leave the report count and updatedAt alone.
+ */
+@SpringBootTest
+class ReportListVersionTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportListVersion reportListVersion;
+
+    @Autowired
+    private TaxonomyService taxonomyService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ReportImageRepository reportImageRepository;
+
+    @Autowired
+    private ReportViewCounter reportViewCounter;
+
+    @Autowired
+    private ImageVariantService imageVariantService;
+
+    @Autowired
+    private UploadProperties uploadProperties;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        userRepository.save(User.builder().name("Author").email("version@test.com").password("secret").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        tagRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void versionIsAnsweredWithoutQueries() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        statistics.clear();
+        reportService.getCollectionVersion();
+
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void reportChangesMoveTheVersion() {
+        String before = version();
+        ReportDto report = reportService.createReport(request("First"), "version@test.com");
+        String created = version();
+        reportService.archiveReport(report.getId());
+        String archived = version();
+        reportService.deleteReport(report.getId());
+
+        assertThat(created).isNotEqualTo(before);
+        assertThat(archived).isNotEqualTo(created);
+        assertThat(version()).isNotEqualTo(archived);
+    }
+
+    @Test
+    void deletingATagMovesTheVersion() {
+        Tag tag = tagRepository.save(Tag.builder().name("Unused").slug("version-unused").build());
+        taxonomyService.tagSaved(tag);
+        String before = version();
+
+        tagRepository.deleteById(tag.getId());
+        taxonomyService.tagDeleted(tag.getId());
+
+        assertThat(version()).isNotEqualTo(before);
+    }
+
+    @Test
+    void versionMovesOnlyAfterCommit() {
+        String before = version();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            reportService.createReport(request("Uncommitted"), "version@test.com");
+            assertThat(version()).isEqualTo(before);
+            status.setRollbackOnly();
+        });
+
+        assertThat(version()).isEqualTo(before);
+    }
+
+    @Test
+    void viewsMoveTheVersionOnlyAtTheNextCheck() {
+        ReportDto report = reportService.createReport(request("Viewed"), "version@test.com");
+        reportListVersion.check();
+        String before = version();
+
+        reportViewCounter.increment(report.getId());
+        assertThat(version()).isEqualTo(before);
+
+        reportListVersion.check();
+        assertThat(version()).isNotEqualTo(before);
+        String checked = version();
+
+        reportListVersion.check();
+        assertThat(version()).isEqualTo(checked);
+    }
+
+    @Test
+    void generatedThumbnailMovesTheVersion() throws Exception {
+        ReportDto created = reportService.createReport(request("Illustrated"), "version@test.com");
+        Report report = reportRepository.findById(created.getId()).orElseThrow();
+        ReportImage image = reportImageRepository.save(
+            ReportImage.builder().report(report).url("photo.png").alt("Photo").build());
+        Path directory = Files.createDirectories(uploadProperties.getReportUploadPath(report.getId()));
+        Path original = directory.resolve("photo.png");
+        ImageIO.write(new BufferedImage(40, 30, BufferedImage.TYPE_INT_RGB), "png", original.toFile());
+        String before = version();
+
+        imageVariantService.generateAfterCommit(report.getId(), image.getId(), original);
+
+        // Generated on the background pool
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (version().equals(before) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        assertThat(version()).isNotEqualTo(before);
+        assertThat(reportImageRepository.findById(image.getId()).orElseThrow().getThumbnailUrl()).endsWith("photo-thumb.jpg");
+    }
+
+    @Test
+    void checkPicksUpChangesMadeElsewhere() {
+        reportListVersion.check();
+        String before = version();
+
+        // Written directly, as another instance would
+        tagRepository.save(Tag.builder().name("Elsewhere").slug("version-elsewhere").build());
+        reportListVersion.check();
+
+        assertThat(version()).isNotEqualTo(before);
+    }
+
+    private String version() {
+        return reportService.getCollectionVersion().asVersion();
+    }
+
+    private static CreateReportRequest request(String title) {
+        return CreateReportRequest.builder().title(title).excerpt("Excerpt").content("Content").build();
+    }
+}
@@ -0,0 +1,86 @@
+package com.slm.backend.service;
+
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the search index picks up reports written without going through this
+ * instance's services, as another instance would write them.
+ */
+@SpringBootTest
+class ReportSearchIndexerTest {
+
+    @Autowired
+    private ReportSearchIndexer reportSearchIndexer;
+
+    @Autowired
+    private ReportSearchIndex reportSearchIndex;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User author;
+
+    @BeforeEach
+    void seed() {
+        author = userRepository.save(User.builder().name("Author").email("indexer@test.com").password("secret").build());
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        userRepository.deleteAll();
+        reportSearchIndexer.rebuild();
+    }
+
+    @Test
+    void refreshIndexesCreatedAndUpdatedReports() {
+        Report report = reportRepository.save(report("Lighthouse inspection"));
+        assertThat(reportSearchIndex.search("lighthouse")).doesNotContain(report.getId());
+
+        reportSearchIndexer.refresh();
+        assertThat(reportSearchIndex.search("lighthouse")).containsExactly(report.getId());
+
+        report.setTitle("Breakwater inspection");
+        reportRepository.save(report);
+        reportSearchIndexer.refresh();
+
+        assertThat(reportSearchIndex.search("lighthouse")).isEmpty();
+        assertThat(reportSearchIndex.search("breakwater")).containsExactly(report.getId());
+    }
+
+    @Test
+    void deletedReportsAreRemoved() {
+        Report kept = reportRepository.save(report("Harbour crane survey"));
+        Report deleted = reportRepository.save(report("Harbour crane repairs"));
+        reportSearchIndexer.refresh();
+
+        reportRepository.deleteById(deleted.getId());
+        reportSearchIndexer.removeDeleted();
+
+        assertThat(reportSearchIndex.search("crane")).containsExactly(kept.getId());
+        assertThat(reportSearchIndex.indexedIds()).doesNotContain(deleted.getId());
+    }
+
+    private Report report(String title) {
+        return Report.builder()
+            .title(title)
+            .slug(title.toLowerCase().replace(' ', '-'))
+            .excerpt("Excerpt")
+            .content("Content")
+            .author(author)
+            .build();
+    }
+}
@@ -0,0 +1,173 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.report.ReportExportFormat;
+import com.slm.backend.dto.report.ReportListResponse;
+import com.slm.backend.dto.report.ReportSummaryDto;
+import com.slm.backend.dto.report.ReportView;
+import com.slm.backend.entity.Category;
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.CategoryRepository;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that searches with more hits than fit in one id filter still apply the other
+ * filters to every hit, in the list, cursor and export paths.
+ */
+@SpringBootTest
+class ReportSearchTest {
+
+    private static final int REPORT_COUNT = 2400;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportExportService reportExportService;
+
+    @Autowired
+    private ReportSearchIndexer reportSearchIndexer;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category even;
+
+    @BeforeEach
+    void seed() {
+        User author = userRepository.save(User.builder().name("Author").email("search@test.com").password("secret").build());
+        even = categoryRepository.save(Category.builder().name("Even").slug("search-even").build());
+        Category odd = categoryRepository.save(Category.builder().name("Odd").slug("search-odd").build());
+
+        List<Report> reports = new ArrayList<>();
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            reports.add(Report.builder()
+                .title("Report " + i + (i == 7 ? " unique" : ""))
+                .slug("search-report-" + i)
+                .excerpt("Excerpt " + i)
+                // Every third report lacks the common term
+                .content(i % 3 == 0 ? "Other words" : "Common words")
+                .viewCount((long) (i % 10))
+                .author(author)
+                .category(i % 2 == 0 ? even : odd)
+                .build());
+        }
+        reportRepository.saveAll(reports);
+        reportSearchIndexer.rebuild();
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+        reportSearchIndexer.rebuild();
+    }
+
+    @Test
+    void sortedSearchCountsEveryFilteredHit() {
+        ReportListResponse<?> firstPage = search(0, "title");
+        ReportListResponse<?> lastPage = search(firstPage.getTotalPages() - 1, "title");
+
+        assertThat(firstPage.getTotal()).isEqualTo(expectedMatches());
+        assertThat(firstPage.getReports()).hasSize(50);
+        assertThat(lastPage.getReports()).isNotEmpty();
+        assertThat(firstPage.getReports()).allSatisfy(this::assertFilteredHit);
+        assertThat(lastPage.getReports()).allSatisfy(this::assertFilteredHit);
+    }
+
+    @Test
+    void relevanceSearchCountsEveryFilteredHit() {
+        ReportListResponse<?> response = search(0, "relevance");
+
+        assertThat(response.getTotal()).isEqualTo(expectedMatches());
+        assertThat(response.getReports()).hasSize(50).allSatisfy(this::assertFilteredHit);
+    }
+
+    @Test
+    void cursorSearchVisitsEveryFilteredHit() {
+        Set<Long> seen = new HashSet<>();
+        String cursor = "";
+        ReportListResponse<?> page;
+        do {
+            page = reportService.getReportsByCursor(cursor, 100, "common", even.getId(), null, null, null, null,
+                null, null, "viewCount", "asc", seen.isEmpty(), ReportView.SUMMARY);
+            if (seen.isEmpty()) {
+                assertThat(page.getTotal()).isEqualTo(expectedMatches());
+            }
+            page.getReports().forEach(item -> {
+                assertFilteredHit(item);
+                assertThat(seen.add(((ReportSummaryDto) item).getId())).isTrue();
+            });
+            cursor = page.getNextCursor();
+        } while (page.getHasMore());
+
+        assertThat(seen).hasSize((int) expectedMatches());
+    }
+
+    @Test
+    void exportIncludesEveryFilteredHit() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        reportExportService.export(reportService.filterFor("common", even.getId(), null, null, null, null, null, null),
+            ReportExportFormat.NDJSON, output);
+
+        List<String> lines = output.toString(StandardCharsets.UTF_8).lines().toList();
+        assertThat(lines).hasSize((int) expectedMatches()).allSatisfy(line -> assertThat(line).contains("Common words"));
+    }
+
+    @Test
+    void narrowSearchIsFilteredInTheDatabase() {
+        ReportListResponse<?> response = reportService.getReports(0, 10, "unique", null, null, null, null, null,
+            null, null, "createdAt", "desc", ReportView.SUMMARY);
+
+        assertThat(response.getTotal()).isEqualTo(1);
+        assertThat(response.getHighlights()).hasSize(1);
+    }
+
+    private ReportListResponse<?> search(int page, String sortBy) {
+        return reportService.getReports(page, 50, "common", even.getId(), null, null, null, null,
+            null, null, sortBy, "asc", ReportView.SUMMARY);
+    }
+
+    private void assertFilteredHit(Object item) {
+        ReportSummaryDto summary = (ReportSummaryDto) item;
+        int i = Integer.parseInt(summary.getSlug().substring("search-report-".length()));
+        assertThat(i % 2).isZero();
+        assertThat(i % 3).isNotZero();
+    }
+
+    /**
+     * Even reports containing the common term: more than any single id filter holds.
+     */
+    private static long expectedMatches() {
+        long matches = 0;
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            if (i % 2 == 0 && i % 3 != 0) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,196 @@
+package com.slm.backend.service;
+
+import com.slm.backend.dto.report.ReportDto;
+import com.slm.backend.dto.report.ReportListResponse;
+import com.slm.backend.dto.report.ReportSummaryDto;
+import com.slm.backend.dto.report.ReportView;
+import com.slm.backend.entity.*;
+import com.slm.backend.repository.*;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the report list paths hydrate associations with a fixed number of
+ * queries, independent of the page size (no N+1 lazy loading).
+ */
+@SpringBootTest
+class ReportServiceQueryCountTest {
+
+    private static final int REPORT_COUNT = 60;
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private TagRepository tagRepository;
+
+    @Autowired
+    private ReportImageRepository reportImageRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void seed() {
+        List<User> authors = userRepository.saveAll(List.of(
+            user("author1@test.com"), user("author2@test.com"), user("author3@test.com")
+        ));
+        List<Category> categories = categoryRepository.saveAll(List.of(
+            Category.builder().name("Cat A").slug("cat-a").build(),
+            Category.builder().name("Cat B").slug("cat-b").build()
+        ));
+        List<Tag> tags = tagRepository.saveAll(List.of(
+            Tag.builder().name("Tag A").slug("tag-a").build(),
+            Tag.builder().name("Tag B").slug("tag-b").build(),
+            Tag.builder().name("Tag C").slug("tag-c").build()
+        ));
+
+        for (int i = 0; i < REPORT_COUNT; i++) {
+            Report report = Report.builder()
+                .title("Report " + i)
+                .slug("report-" + i)
+                .excerpt("Excerpt " + i)
+                .content("Content " + i)
+                .status(Report.Status.PUBLISHED)
+                .publishedAt(LocalDateTime.now().minusMinutes(i))
+                .author(authors.get(i % authors.size()))
+                .category(categories.get(i % categories.size()))
+                .tags(Set.of(tags.get(i % tags.size()), tags.get((i + 1) % tags.size())))
+                .build();
+            report.addImage(image("a-" + i, 0));
+            report.addImage(image("b-" + i, 1));
+            reportRepository.save(report);
+        }
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportRepository.deleteAll();
+        tagRepository.deleteAll();
+        categoryRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void offsetListStatementCountIsIndependentOfPageSize() {
+        long small = countStatements(() -> reportService.getReports(
+            0, 5, null, null, null, null, null, null, null, null, "createdAt", "desc", ReportView.FULL));
+        long large = countStatements(() -> reportService.getReports(
+            0, 50, null, null, null, null, null, null, null, null, "createdAt", "desc", ReportView.FULL));
+
+        assertThat(large).isEqualTo(small);
+
+        ReportListResponse<?> response = reportService.getReports(
+            0, 50, null, null, null, null, null, null, null, null, "createdAt", "desc", ReportView.FULL);
+        assertThat(response.getReports()).hasSize(50);
+        assertThat(response.getTotal()).isEqualTo(REPORT_COUNT);
+        assertFullyHydrated(response.getReports());
+    }
+
+    @Test
+    void cursorListStatementCountIsIndependentOfPageSize() {
+        long small = countStatements(() -> reportService.getReportsByCursor(
+            "", 5, null, null, null, null, null, null, null, null, "createdAt", "desc", false, ReportView.FULL));
+        long large = countStatements(() -> reportService.getReportsByCursor(
+            "", 50, null, null, null, null, null, null, null, null, "createdAt", "desc", false, ReportView.FULL));
+
+        assertThat(large).isEqualTo(small);
+    }
+
+    @Test
+    void latestPublishedStatementCountIsIndependentOfLimit() {
+        long small = countStatements(() -> reportService.getLatestPublished(5, ReportView.FULL));
+        long large = countStatements(() -> reportService.getLatestPublished(50, ReportView.FULL));
+
+        assertThat(large).isEqualTo(small);
+
+        List<?> latest = reportService.getLatestPublished(10, ReportView.FULL);
+        assertThat(latest).extracting("slug")
+            .containsExactly("report-0", "report-1", "report-2", "report-3", "report-4",
+                "report-5", "report-6", "report-7", "report-8", "report-9");
+        assertFullyHydrated(latest);
+    }
+
+    @Test
+    void summaryListStatementCountIsIndependentOfPageSize() {
+        long small = countStatements(() -> reportService.getReports(
+            0, 5, null, null, null, null, null, null, null, null, "createdAt", "desc", ReportView.SUMMARY));
+        long large = countStatements(() -> reportService.getReports(
+            0, 50, null, null, null, null, null, null, null, null, "createdAt", "desc", ReportView.SUMMARY));
+
+        assertThat(large).isEqualTo(small);
+
+        ReportListResponse<?> response = reportService.getReports(
+            0, 50, null, null, null, null, null, null, null, null, "createdAt", "desc", ReportView.SUMMARY);
+        assertThat(response.getReports()).hasSize(50).allSatisfy(item -> {
+            ReportSummaryDto summary = (ReportSummaryDto) item;
+            assertThat(summary.getAuthor()).isNotNull();
+            assertThat(summary.getCategory()).isNotNull();
+            assertThat(summary.getFeaturedImage()).startsWith("a-");
+        });
+    }
+
+    @Test
+    void summaryPreviewPrefersFeaturedImageOverFirstImage() {
+        Report featured = reportRepository.findBySlug("report-0").orElseThrow();
+        Long secondImageId = reportImageRepository.findByReportIdOrderByDisplayOrderAsc(featured.getId()).get(1).getId();
+        featured.setFeaturedImageId(secondImageId);
+        reportRepository.save(featured);
+
+        ReportListResponse<?> response = reportService.getReports(
+            0, 50, null, null, null, null, null, null, null, null, "createdAt", "desc", ReportView.SUMMARY);
+        assertThat(response.getReports()).allSatisfy(item -> {
+            ReportSummaryDto summary = (ReportSummaryDto) item;
+            assertThat(summary.getFeaturedImage())
+                .isEqualTo(summary.getSlug().equals("report-0") ? "b-0" : "a-" + summary.getSlug().substring(7));
+        });
+    }
+
+    private void assertFullyHydrated(List<?> reports) {
+        assertThat(reports).allSatisfy(item -> {
+            ReportDto report = (ReportDto) item;
+            assertThat(report.getAuthor()).isNotNull();
+            assertThat(report.getCategory()).isNotNull();
+            assertThat(report.getTags()).hasSize(2);
+            assertThat(report.getImages()).hasSize(2);
+            assertThat(report.getFeaturedImage()).startsWith("a-");
+        });
+    }
+
+    private long countStatements(Supplier<?> action) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        action.get();
+        return statistics.getPrepareStatementCount();
+    }
+
+    private static User user(String email) {
+        return User.builder().name(email).email(email).password("secret").build();
+    }
+
+    private static ReportImage image(String url, int order) {
+        return ReportImage.builder().url(url).alt(url).displayOrder(order).build();
+    }
+}
@@ -0,0 +1,79 @@
+package com.slm.backend.service;
+
+import com.slm.backend.entity.Report;
+import com.slm.backend.entity.User;
+import com.slm.backend.repository.ReportRepository;
+import com.slm.backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that buffered views of a deleted report are dropped only when the delete commits.
+ */
+@SpringBootTest
+class ReportViewCounterTest {
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private ReportViewCounter reportViewCounter;
+
+    @Autowired
+    private ReportRepository reportRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Report report;
+
+    @BeforeEach
+    void seed() {
+        User author = userRepository.save(User.builder().name("Author").email("views@test.com").password("secret").build());
+        report = reportRepository.save(Report.builder()
+            .title("Viewed")
+            .slug("viewed-report")
+            .excerpt("Excerpt")
+            .content("Content")
+            .author(author)
+            .build());
+        reportViewCounter.increment(report.getId());
+        reportViewCounter.increment(report.getId());
+    }
+
+    @AfterEach
+    void cleanup() {
+        reportViewCounter.discard(report.getId());
+        reportRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void rolledBackDeleteKeepsBufferedViews() {
+        transactionTemplate.executeWithoutResult(status -> {
+            reportService.deleteReport(report.getId());
+            status.setRollbackOnly();
+        });
+
+        assertThat(reportRepository.existsById(report.getId())).isTrue();
+        assertThat(reportViewCounter.pendingViews(report.getId())).isEqualTo(2);
+        assertThat(reportViewCounter.recordedViews(report.getId())).isEqualTo(2);
+    }
+
+    @Test
+    void committedDeleteDiscardsBufferedViews() {
+        reportService.deleteReport(report.getId());
+
+        assertThat(reportViewCounter.pendingViews(report.getId())).isZero();
+        assertThat(reportViewCounter.recordedViews(report.getId())).isZero();
+    }
+}
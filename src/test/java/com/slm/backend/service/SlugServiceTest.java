@@ -0,0 +1,117 @@
+package com.slm.backend.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies slug normalization against the regex implementation it replaced, and the
+ * choice of "-n" suffixes for taken slugs.
+ */
+class SlugServiceTest {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{InCombiningDiacriticalMarks}+");
+
+    // Characters the random titles are drawn from: ASCII, whitespace, punctuation,
+    // precomposed and combining diacritics, non-Latin letters and special case mappings
+    private static final String ALPHABET = "aZ09 -_\t\n\r\u000B\f.,!?'\"&/()éÉñÑüÜøØßçḈ̈İıſK"
+        + "  日本Ωж😀";
+
+    @Test
+    void normalizesLikeTheRegexImplementation() {
+        List<String> titles = List.of(
+            "", " ", "Hello World", "  Leading and trailing  ", "Multiple   spaces", "a - b", "--a--b--",
+            "Tabs\tand\nnewlines\r\n", "Café Éclair", "Ærø Ångström", "Straße", "İstanbul", "Kelvin K",
+            "Non breaking", "Emoji 😀 title", "日本語のタイトル", "Mixed 日本 Latin", "100% Pure & Simple!",
+            "Report #42: Q3 (2024) results", "combining é accent", "UPPER lower 123"
+        );
+        titles.forEach(title -> assertThat(SlugService.toSlug(title)).as(title).isEqualTo(regexSlug(title)));
+
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            StringBuilder title = new StringBuilder();
+            int length = random.nextInt(20);
+            for (int j = 0; j < length; j++) {
+                title.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+            }
+            assertThat(SlugService.toSlug(title.toString())).as(title.toString()).isEqualTo(regexSlug(title.toString()));
+        }
+    }
+
+    @Test
+    void freeBaseIsUsedAsIs() {
+        assertThat(unique("Annual Report", "annual-report-1", "annual-report-2")).isEqualTo("annual-report");
+    }
+
+    @Test
+    void takenBaseGetsLowestFreeSuffix() {
+        assertThat(unique("Annual Report", "annual-report")).isEqualTo("annual-report-1");
+        assertThat(unique("Annual Report", "annual-report", "annual-report-1", "annual-report-2"))
+            .isEqualTo("annual-report-3");
+    }
+
+    @Test
+    void gapsInSuffixesAreFilled() {
+        assertThat(unique("Annual Report", "annual-report", "annual-report-1", "annual-report-3"))
+            .isEqualTo("annual-report-2");
+        assertThat(unique("Annual Report", "annual-report", "annual-report-2")).isEqualTo("annual-report-1");
+    }
+
+    @Test
+    void slugsThatOnlyStartWithTheBaseAreNotSuffixes() {
+        assertThat(unique("Annual Report", "annual-report", "annual-report-2024-report", "annual-reporter"))
+            .isEqualTo("annual-report-1");
+    }
+
+    @Test
+    void suffixesWithLeadingZerosDoNotTakeTheirNumber() {
+        assertThat(unique("Annual Report", "annual-report", "annual-report-01", "annual-report-0"))
+            .isEqualTo("annual-report-1");
+    }
+
+    @Test
+    void oversizedSuffixesAreIgnored() {
+        assertThat(unique("Annual Report", "annual-report", "annual-report-99999999999"))
+            .isEqualTo("annual-report-1");
+    }
+
+    @Test
+    void textWithoutSlugCharactersGetsRandomSlug() {
+        String slug = unique("日本語");
+
+        assertThat(UUID.fromString(slug)).isNotNull();
+    }
+
+    @Test
+    void takenSlugsClaimSuffixesInOrder() {
+        SlugService.TakenSlugs taken = new SlugService.TakenSlugs(List.of("annual-report", "annual-report-2"));
+
+        assertThat(taken.claim("Annual Report")).isEqualTo("annual-report-1");
+        assertThat(taken.claim("Annual Report")).isEqualTo("annual-report-3");
+        assertThat(taken.claim("Other")).isEqualTo("other");
+        assertThat(taken.claim("Other")).isEqualTo("other-1");
+    }
+
+    private static String unique(String text, String... taken) {
+        return SlugService.uniqueSlug(text, base -> List.of(taken).stream().filter(slug -> slug.startsWith(base)).toList());
+    }
+
+    /**
+     * The slug generation this class replaced, as it was in the report, tag and category code.
+     */
+    private static String regexSlug(String text) {
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String slug = DIACRITICS.matcher(normalized).replaceAll("");
+        return slug.toLowerCase()
+            .replaceAll("[^a-z0-9\\s-]", "")
+            .replaceAll("[\\s]+", "-")
+            .replaceAll("-+", "-")
+            .replaceAll("^-|-$", "");
+    }
+}